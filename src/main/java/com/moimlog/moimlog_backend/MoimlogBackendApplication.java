@@ -5,9 +5,11 @@ import com.moimlog.moimlog_backend.config.JwtConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties({JwtConfig.class, AwsS3Config.class})
+@EnableScheduling
 public class MoimlogBackendApplication {
 
 	public static void main(String[] args) {
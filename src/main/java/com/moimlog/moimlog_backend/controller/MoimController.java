@@ -5,14 +5,20 @@ import com.moimlog.moimlog_backend.dto.request.CreateMoimRequest;
 import com.moimlog.moimlog_backend.dto.request.CreatePostRequest;
 import com.moimlog.moimlog_backend.dto.request.CreateCommentRequest;
 import com.moimlog.moimlog_backend.dto.request.CreateScheduleRequest;
+import com.moimlog.moimlog_backend.dto.request.ScheduleExceptionRequest;
 import com.moimlog.moimlog_backend.dto.request.ScheduleParticipationRequest;
 import com.moimlog.moimlog_backend.dto.request.CreateJoinRequestRequest;
 import com.moimlog.moimlog_backend.dto.request.ApproveJoinRequestRequest;
 import com.moimlog.moimlog_backend.dto.request.RejectJoinRequestRequest;
+import com.moimlog.moimlog_backend.dto.response.CommentPageResponse;
 import com.moimlog.moimlog_backend.dto.response.CreateMoimResponse;
+import com.moimlog.moimlog_backend.dto.response.MoimListItemResponse;
 import com.moimlog.moimlog_backend.dto.response.PostResponse;
 import com.moimlog.moimlog_backend.dto.response.PostListResponse;
+import com.moimlog.moimlog_backend.dto.response.PostSearchResponse;
+import com.moimlog.moimlog_backend.service.DiscoveryFeedCache;
 import com.moimlog.moimlog_backend.service.MoimService;
+import com.moimlog.moimlog_backend.service.MoimBoardCounters;
 import com.moimlog.moimlog_backend.service.PostService;
 import com.moimlog.moimlog_backend.service.ScheduleService;
 import com.moimlog.moimlog_backend.service.MoimJoinRequestService;
@@ -20,6 +26,7 @@ import com.moimlog.moimlog_backend.util.JwtUtil;
 import com.moimlog.moimlog_backend.entity.MoimCategory;
 import com.moimlog.moimlog_backend.entity.Moim;
 import com.moimlog.moimlog_backend.entity.MoimMember;
+import com.moimlog.moimlog_backend.entity.MoimSummary;
 import com.moimlog.moimlog_backend.entity.Post;
 import com.moimlog.moimlog_backend.entity.Schedule;
 import com.moimlog.moimlog_backend.repository.MoimCategoryRepository;
@@ -29,7 +36,10 @@ import com.moimlog.moimlog_backend.repository.PostRepository;
 import com.moimlog.moimlog_backend.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
@@ -61,6 +71,7 @@ import com.moimlog.moimlog_backend.entity.MoimMember;
 public class MoimController {
     
     private final MoimService moimService;
+    private final DiscoveryFeedCache discoveryFeedCache;
     private final PostService postService;
     private final ScheduleService scheduleService;
     private final MoimJoinRequestService moimJoinRequestService;
@@ -183,10 +194,13 @@ public class MoimController {
             @RequestParam(required = false) String onlineType,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String tag,
             @RequestParam(required = false, defaultValue = "latest") String sortBy,
             @RequestParam(required = false) Integer minMembers,
             @RequestParam(required = false) Integer maxMembers,
             @RequestParam(required = false, defaultValue = "false") Boolean isPrivate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
             HttpServletRequest httpRequest) {
         
         try {
@@ -229,16 +243,23 @@ public class MoimController {
                 log.debug("유효하지 않은 토큰으로 인한 비로그인 사용자 모임 목록 조회");
             }
             
-            // 모임 목록 조회
-            Map<String, Object> response = moimService.getMoimList(
-                    userId, page, limit, category, onlineType, location, 
-                    search, sortBy, minMembers, maxMembers, isPrivate);
+            // 모임 목록 조회 (cursor 파라미터가 있으면 커서 페이지네이션, 빈 값이면 첫 페이지)
+            Map<String, Object> response;
+            if (cursor != null) {
+                response = moimService.getMoimListByCursor(
+                        userId, cursor, limit, category, onlineType, location,
+                        search, tag, sortBy, minMembers, maxMembers, isPrivate, includeTotal);
+            } else {
+                response = moimService.getMoimList(
+                        userId, page, limit, category, onlineType, location, 
+                        search, tag, sortBy, minMembers, maxMembers, isPrivate);
+            }
             
             // 모임 목록의 이미지 URL을 프록시 URL로 변환
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> moims = (List<Map<String, Object>>) response.get("moims");
+            List<MoimListItemResponse> moims = (List<MoimListItemResponse>) response.get("moims");
             if (moims != null) {
-                for (Map<String, Object> moim : moims) {
+                for (MoimListItemResponse moim : moims) {
                     convertMoimListUrlsToProxy(moim);
                 }
             }
@@ -249,6 +270,14 @@ public class MoimController {
                     .data(response)
                     .build());
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("모임 목록 조회 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+            
         } catch (Exception e) {
             log.error("모임 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -263,11 +292,15 @@ public class MoimController {
     /**
      * 인기 모임 목록 조회
      * GET /moims/popular
+     * 커서 없이 요청한 경우 사용자와 무관한 응답이므로 직렬화된 응답을 캐시하고 ETag 를 내려준다.
+     * (If-None-Match 가 일치하면 304)
      */
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getPopularMoims(
+    public ResponseEntity<?> getPopularMoims(
             @RequestParam(required = false, defaultValue = "6") int limit,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         try {
             if (limit < 1 || limit > 50) {
@@ -278,23 +311,26 @@ public class MoimController {
                                 .build());
             }
             
-            Map<String, Object> response = moimService.getPopularMoims(category, limit);
-            
-            // 모임 목록의 이미지 URL을 프록시 URL로 변환
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> moims = (List<Map<String, Object>>) response.get("moims");
-            if (moims != null) {
-                for (Map<String, Object> moim : moims) {
-                    convertMoimListUrlsToProxy(moim);
-                }
+            // cursor 파라미터가 없으면 캐시된 첫 화면 응답
+            if (cursor == null) {
+                DiscoveryFeedCache.CachedFeed feed = discoveryFeedCache.get("popular", category, limit,
+                        () -> createFeedApiResponse(moimService.getPopularMoims(category, limit),
+                                "인기 모임 목록을 성공적으로 조회했습니다."));
+                return createCachedFeedResponse(feed, ifNoneMatch);
             }
             
-            return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
-                    .success(true)
-                    .message("인기 모임 목록을 성공적으로 조회했습니다.")
-                    .data(response)
-                    .build());
+            // 커서 페이지네이션 (빈 값이면 첫 페이지)
+            return ResponseEntity.ok(createFeedApiResponse(moimService.getPopularMoims(category, limit, cursor),
+                    "인기 모임 목록을 성공적으로 조회했습니다."));
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("인기 모임 목록 조회 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+            
         } catch (Exception e) {
             log.error("인기 모임 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -309,11 +345,15 @@ public class MoimController {
     /**
      * 최신 모임 목록 조회
      * GET /moims/latest
+     * 커서 없이 요청한 경우 사용자와 무관한 응답이므로 직렬화된 응답을 캐시하고 ETag 를 내려준다.
+     * (If-None-Match 가 일치하면 304)
      */
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getLatestMoims(
+    public ResponseEntity<?> getLatestMoims(
             @RequestParam(required = false, defaultValue = "6") int limit,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         try {
             if (limit < 1 || limit > 50) {
@@ -324,29 +364,146 @@ public class MoimController {
                                 .build());
             }
             
-            Map<String, Object> response = moimService.getLatestMoims(category, limit);
+            // cursor 파라미터가 없으면 캐시된 첫 화면 응답
+            if (cursor == null) {
+                DiscoveryFeedCache.CachedFeed feed = discoveryFeedCache.get("latest", category, limit,
+                        () -> createFeedApiResponse(moimService.getLatestMoims(category, limit),
+                                "최신 모임 목록을 성공적으로 조회했습니다."));
+                return createCachedFeedResponse(feed, ifNoneMatch);
+            }
+            
+            // 커서 페이지네이션 (빈 값이면 첫 페이지)
+            return ResponseEntity.ok(createFeedApiResponse(moimService.getLatestMoims(category, limit, cursor),
+                    "최신 모임 목록을 성공적으로 조회했습니다."));
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("최신 모임 목록 조회 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+            
+        } catch (Exception e) {
+            log.error("최신 모임 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("최신 모임 목록 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
+    /**
+     * 인기/최신 모임 피드 응답 구성 (이미지 URL 프록시 변환 포함)
+     */
+    private ApiResponse<Map<String, Object>> createFeedApiResponse(Map<String, Object> response, String message) {
+        // 모임 목록의 이미지 URL을 프록시 URL로 변환
+        @SuppressWarnings("unchecked")
+        List<MoimListItemResponse> moims = (List<MoimListItemResponse>) response.get("moims");
+        if (moims != null) {
+            for (MoimListItemResponse moim : moims) {
+                convertMoimListUrlsToProxy(moim);
+            }
+        }
+        
+        return ApiResponse.<Map<String, Object>>builder()
+                .success(true)
+                .message(message)
+                .data(response)
+                .build();
+    }
+    
+    /**
+     * 캐시된 피드 응답 반환 (ETag 일치 시 본문 없이 304)
+     */
+    private ResponseEntity<byte[]> createCachedFeedResponse(DiscoveryFeedCache.CachedFeed feed, String ifNoneMatch) {
+        if (feed.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(feed.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(feed.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(feed.getBody());
+    }
+    
+    /**
+     * 주변 모임 조회 (거리순)
+     * GET /moims/nearby?lat=37.5665&lng=126.9780&radiusKm=5
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getNearbyMoims(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false, defaultValue = "5") double radiusKm,
+            @RequestParam(required = false, defaultValue = "1") int page,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            if (radiusKm <= 0 || radiusKm > 50) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("검색 반경은 0-50km 사이여야 합니다.")
+                                .build());
+            }
+            
+            if (page < 1 || page > 1000 || limit < 1 || limit > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("페이지 번호는 1-1000, 페이지당 모임 수는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
+            // 사용자 ID 추출 (로그인한 경우만)
+            Long userId = null;
+            try {
+                String token = extractTokenFromRequestOptional(httpRequest);
+                if (token != null) {
+                    userId = jwtUtil.getUserIdFromToken(token);
+                }
+            } catch (Exception e) {
+                log.debug("유효하지 않은 토큰으로 인한 비로그인 사용자 주변 모임 조회");
+            }
+            
+            Map<String, Object> response = moimService.getNearbyMoims(userId, lat, lng, radiusKm, page, limit);
             
             // 모임 목록의 이미지 URL을 프록시 URL로 변환
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> moims = (List<Map<String, Object>>) response.get("moims");
+            List<MoimListItemResponse> moims = (List<MoimListItemResponse>) response.get("moims");
             if (moims != null) {
-                for (Map<String, Object> moim : moims) {
+                for (MoimListItemResponse moim : moims) {
                     convertMoimListUrlsToProxy(moim);
                 }
             }
             
             return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
                     .success(true)
-                    .message("최신 모임 목록을 성공적으로 조회했습니다.")
+                    .message("주변 모임 목록을 성공적으로 조회했습니다.")
                     .data(response)
                     .build());
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("주변 모임 목록 조회 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+            
         } catch (Exception e) {
-            log.error("최신 모임 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            log.error("주변 모임 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.<Map<String, Object>>builder()
                             .success(false)
-                            .message("최신 모임 목록 조회 중 오류가 발생했습니다.")
+                            .message("주변 모임 목록 조회 중 오류가 발생했습니다.")
                             .errorCode("INTERNAL_SERVER_ERROR")
                             .build());
         }
@@ -378,6 +535,42 @@ public class MoimController {
         }
     }
     
+    /**
+     * 모임 태그 자동완성
+     * GET /moims/tags/autocomplete?q=독서&limit=10
+     */
+    @GetMapping("/tags/autocomplete")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> autocompleteTags(
+            @RequestParam(required = false, defaultValue = "") String q,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        try {
+            if (limit < 1 || limit > 50) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<List<Map<String, Object>>>builder()
+                                .success(false)
+                                .message("조회할 태그 수는 1-50 사이여야 합니다.")
+                                .build());
+            }
+            
+            List<Map<String, Object>> tags = moimService.autocompleteTags(q, limit);
+            
+            return ResponseEntity.ok(ApiResponse.<List<Map<String, Object>>>builder()
+                    .success(true)
+                    .message("태그 자동완성 조회 성공")
+                    .data(tags)
+                    .build());
+                    
+        } catch (Exception e) {
+            log.error("태그 자동완성 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<List<Map<String, Object>>>builder()
+                            .success(false)
+                            .message("태그 자동완성 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
     /**
      * 모임 생성 API 헬스체크
      * GET /api/v1/moims/health
@@ -461,6 +654,52 @@ public class MoimController {
         }
     }
     
+    /**
+     * 내 일정 조회 (참여 중인 모든 모임의 다가오는 일정 + 내 참석 상태, 커서 페이지네이션)
+     * GET /moims/my-agenda
+     */
+    @GetMapping("/my-agenda")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMyAgenda(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            if (size < 1 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("크기는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
+            Map<String, Object> response = scheduleService.getMyAgenda(userId, cursor, size);
+            
+            return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                    .success(true)
+                    .message("내 일정 조회 성공")
+                    .data(response)
+                    .build());
+        } catch (IllegalArgumentException e) {
+            log.warn("내 일정 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("내 일정 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("내 일정 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
     /**
      * 페이지네이션 정보 생성
      */
@@ -593,23 +832,11 @@ public class MoimController {
     }
     
     /**
-     * 모임 목록 응답에서 S3 URL을 프록시 URL로 변환
+     * 모임 목록 항목의 이미지 URL을 프록시 URL로 변환
      */
-    private void convertMoimListUrlsToProxy(Map<String, Object> moimResponse) {
-        // 썸네일 URL 변환
-        if (moimResponse.containsKey("thumbnail")) {
-            moimResponse.put("thumbnail", convertS3UrlToProxyUrl((String) moimResponse.get("thumbnail")));
-        }
-        
-        // 생성자 프로필 이미지 URL 변환 (기존 필드명)
-        if (moimResponse.containsKey("creatorProfileImage")) {
-            moimResponse.put("creatorProfileImage", convertProfileImageToProxyUrl((String) moimResponse.get("creatorProfileImage")));
-        }
-        
-        // 생성자 프로필 이미지 URL 변환 (새로운 필드명)
-        if (moimResponse.containsKey("creator_profile_image")) {
-            moimResponse.put("creator_profile_image", convertProfileImageToProxyUrl((String) moimResponse.get("creator_profile_image")));
-        }
+    private void convertMoimListUrlsToProxy(MoimListItemResponse moimResponse) {
+        moimResponse.setThumbnail(convertS3UrlToProxyUrl(moimResponse.getThumbnail()));
+        moimResponse.setCreatorProfileImage(convertProfileImageToProxyUrl(moimResponse.getCreatorProfileImage()));
     }
     
     // ========================================
@@ -628,34 +855,42 @@ public class MoimController {
             String token = extractTokenFromRequest(httpRequest);
             Long userId = jwtUtil.getUserIdFromToken(token);
             
-            // 모임 정보 조회
-            Moim moim = moimRepository.findById(moimId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 모임입니다."));
+            // 모임 정보 조회 (조회 모델)
+            MoimSummary moim = moimService.getMoimSummary(moimId);
             
             // 현재 사용자가 모임 멤버인지 확인
             MoimMember member = moimMemberRepository.findByMoimIdAndUserId(moimId, userId)
                     .orElse(null);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("id", moim.getId());
+            response.put("id", moim.getMoimId());
             response.put("title", moim.getTitle());
             response.put("description", moim.getDescription());
-            response.put("categoryId", moim.getCategory() != null ? moim.getCategory().getId() : null);
-            response.put("categoryName", moim.getCategory() != null ? moim.getCategory().getName() : null);
-            response.put("categoryLabel", moim.getCategory() != null ? moim.getCategory().getLabel() : null);
-            response.put("categoryColor", moim.getCategory() != null ? moim.getCategory().getColor() : null);
+            response.put("categoryId", moim.getCategoryId());
+            response.put("categoryName", moim.getCategoryName());
+            response.put("categoryLabel", moim.getCategoryLabel());
+            response.put("categoryColor", moim.getCategoryColor());
             response.put("tags", moim.getTags());
             response.put("thumbnail", convertS3UrlToProxyUrl(moim.getThumbnail()));
             response.put("maxMembers", moim.getMaxMembers());
             response.put("currentMembers", moim.getCurrentMembers());
+            response.put("favoriteCount", moim.getFavoriteCount());
+            
+            // 게시판 통계 (카운터 테이블 기준)
+            MoimBoardCounters.BoardStats boardStats = postService.getBoardStats(moimId);
+            response.put("postCount", boardStats.getTotalPosts());
+            response.put("commentCount", boardStats.getTotalComments());
+            
             response.put("isPrivate", moim.getIsPrivate());
             response.put("isActive", moim.getIsActive());
             response.put("onlineType", moim.getOnlineType());
             response.put("location", moim.getLocation());
             response.put("locationDetail", moim.getLocationDetail());
-            response.put("createdBy", moim.getCreatedBy().getNickname() != null ? moim.getCreatedBy().getNickname() : moim.getCreatedBy().getName());
-            response.put("creatorName", moim.getCreatedBy().getName());
-            response.put("creatorProfileImage", convertProfileImageToProxyUrl(moim.getCreatedBy().getProfileImage()));
+            response.put("latitude", moim.getLatitude());
+            response.put("longitude", moim.getLongitude());
+            response.put("createdBy", moim.getCreatorNickname() != null ? moim.getCreatorNickname() : moim.getCreatorName());
+            response.put("creatorName", moim.getCreatorName());
+            response.put("creatorProfileImage", convertProfileImageToProxyUrl(moim.getCreatorProfileImage()));
             response.put("createdAt", moim.getCreatedAt());
             response.put("updatedAt", moim.getUpdatedAt());
             response.put("isMember", member != null);
@@ -786,6 +1021,8 @@ public class MoimController {
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             HttpServletRequest httpRequest) {
         try {
             String token = extractTokenFromRequest(httpRequest);
@@ -800,8 +1037,20 @@ public class MoimController {
                                 .build());
             }
             
-            // 게시글 목록 조회
-            PostListResponse response = postService.getPosts(moimId, page, size, type, search, sort);
+            // 게시글 목록 조회 (cursor 파라미터가 있으면 커서 페이지네이션, 빈 값이면 첫 페이지)
+            PostListResponse response;
+            if (cursor != null) {
+                if (size < 1 || size > 100) {
+                    return ResponseEntity.badRequest()
+                            .body(ApiResponse.<PostListResponse>builder()
+                                    .success(false)
+                                    .message("페이지당 게시글 수는 1-100 사이여야 합니다.")
+                                    .build());
+                }
+                response = postService.getPostFeed(moimId, userId, cursor, size, type, search, sort, includeTotal);
+            } else {
+                response = postService.getPosts(moimId, userId, page, size, type, search, sort);
+            }
             
             return ResponseEntity.ok(ApiResponse.<PostListResponse>builder()
                     .success(true)
@@ -809,6 +1058,13 @@ public class MoimController {
                     .data(response)
                     .build());
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("게시글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<PostListResponse>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
         } catch (Exception e) {
             log.error("게시글 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -820,6 +1076,109 @@ public class MoimController {
         }
     }
     
+    /**
+     * 게시글 검색 (관련도 순, 검색어 하이라이트 포함)
+     * GET /moims/{moimId}/posts/search
+     */
+    @GetMapping("/{moimId}/posts/search")
+    public ResponseEntity<ApiResponse<PostSearchResponse>> searchPosts(
+            @PathVariable Long moimId,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<PostSearchResponse>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            if (limit < 1 || limit > 50) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<PostSearchResponse>builder()
+                                .success(false)
+                                .message("limit은 1-50 사이여야 합니다.")
+                                .build());
+            }
+            
+            PostSearchResponse response = postService.searchPosts(moimId, userId, q, cursor, limit);
+            
+            return ResponseEntity.ok(ApiResponse.<PostSearchResponse>builder()
+                    .success(true)
+                    .message("게시글 검색 성공")
+                    .data(response)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("게시글 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<PostSearchResponse>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("게시글 검색 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<PostSearchResponse>builder()
+                            .success(false)
+                            .message("게시글 검색 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
+    /**
+     * 게시판 통계 조회 (전체/타입별 게시글 수, 댓글 수 - 게시판 탭용)
+     * GET /moims/{moimId}/posts/stats
+     */
+    @GetMapping("/{moimId}/posts/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getBoardStats(
+            @PathVariable Long moimId,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            MoimBoardCounters.BoardStats boardStats = postService.getBoardStats(moimId);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("totalPosts", boardStats.getTotalPosts());
+            response.put("totalComments", boardStats.getTotalComments());
+            response.put("postCountsByType", boardStats.getPostCountsByType());
+            
+            return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                    .success(true)
+                    .message("게시판 통계 조회 성공")
+                    .data(response)
+                    .build());
+                    
+        } catch (Exception e) {
+            log.error("게시판 통계 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("게시판 통계 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
     /**
      * 게시글 상세 조회
      * GET /moims/{moimId}/posts/{postId}
@@ -843,7 +1202,7 @@ public class MoimController {
             }
             
             // 게시글 상세 조회
-            PostResponse response = postService.getPostDetail(postId, moimId);
+            PostResponse response = postService.getPostDetail(postId, moimId, userId);
             
             return ResponseEntity.ok(ApiResponse.<PostResponse>builder()
                     .success(true)
@@ -862,6 +1221,123 @@ public class MoimController {
         }
     }
     
+    /**
+     * 댓글 목록 조회 (최상위 댓글 페이지, 답글 미리보기 포함)
+     * GET /moims/{moimId}/posts/{postId}/comments
+     */
+    @GetMapping("/{moimId}/posts/{postId}/comments")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable Long moimId,
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<CommentPageResponse>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            if (page < 1 || size < 1 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<CommentPageResponse>builder()
+                                .success(false)
+                                .message("페이지는 1 이상, 크기는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
+            CommentPageResponse response = postService.getComments(postId, moimId, userId, page, size);
+            
+            return ResponseEntity.ok(ApiResponse.<CommentPageResponse>builder()
+                    .success(true)
+                    .message("댓글 목록 조회 성공")
+                    .data(response)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("댓글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<CommentPageResponse>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("댓글 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<CommentPageResponse>builder()
+                            .success(false)
+                            .message("댓글 목록 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
+    /**
+     * 답글 목록 조회 (답글 페이지, 답글의 답글 미리보기 포함)
+     * GET /moims/{moimId}/posts/{postId}/comments/{commentId}/replies
+     */
+    @GetMapping("/{moimId}/posts/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getReplies(
+            @PathVariable Long moimId,
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<CommentPageResponse>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            if (page < 1 || size < 1 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<CommentPageResponse>builder()
+                                .success(false)
+                                .message("페이지는 1 이상, 크기는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
+            CommentPageResponse response = postService.getReplies(postId, moimId, commentId, userId, page, size);
+            
+            return ResponseEntity.ok(ApiResponse.<CommentPageResponse>builder()
+                    .success(true)
+                    .message("답글 목록 조회 성공")
+                    .data(response)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("답글 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<CommentPageResponse>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("답글 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<CommentPageResponse>builder()
+                            .success(false)
+                            .message("답글 목록 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
     /**
      * 게시글 작성
      * POST /moims/{moimId}/posts
@@ -1089,6 +1565,10 @@ public class MoimController {
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) String type,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpServletRequest httpRequest) {
         try {
             String token = extractTokenFromRequest(httpRequest);
@@ -1103,8 +1583,17 @@ public class MoimController {
                                 .build());
             }
             
+            if (size < 1 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("크기는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
             // 일정 목록 조회
-            Map<String, Object> response = scheduleService.getSchedules(moimId, startDate, endDate, type);
+            Map<String, Object> response = scheduleService.getSchedules(moimId, startDate, endDate, type,
+                    view, date, cursor, size);
             
             return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
                     .success(true)
@@ -1112,6 +1601,13 @@ public class MoimController {
                     .data(response)
                     .build());
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("일정 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
         } catch (Exception e) {
             log.error("일정 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1177,6 +1673,13 @@ public class MoimController {
                             .data(response)
                             .build());
                     
+        } catch (IllegalArgumentException e) {
+            log.warn("일정 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
         } catch (Exception e) {
             log.error("일정 등록 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1188,6 +1691,133 @@ public class MoimController {
         }
     }
     
+    /**
+     * 반복 일정 회차 취소/변경
+     * POST /moims/{moimId}/schedules/{scheduleId}/exceptions
+     */
+    @PostMapping("/{moimId}/schedules/{scheduleId}/exceptions")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> saveScheduleException(
+            @PathVariable Long moimId,
+            @PathVariable Long scheduleId,
+            @Valid @RequestBody ScheduleExceptionRequest request,
+            BindingResult bindingResult,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            // 유효성 검사 오류 확인
+            if (bindingResult.hasErrors()) {
+                List<FieldError> fieldErrors = bindingResult.getFieldErrors();
+                List<String> errorMessages = fieldErrors.stream()
+                        .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                        .collect(Collectors.toList());
+                
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("입력 정보가 올바르지 않습니다.")
+                                .errors(errorMessages)
+                                .build());
+            }
+            
+            // 회차 취소/변경 저장
+            Map<String, Object> response = scheduleService.saveScheduleException(moimId, scheduleId, userId, request);
+            
+            return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                    .success(true)
+                    .message(Boolean.TRUE.equals(response.get("isCancelled"))
+                            ? "일정 회차가 취소되었습니다."
+                            : "일정 회차가 변경되었습니다.")
+                    .data(response)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("일정 회차 변경 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("일정 회차 변경 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("일정 회차 변경 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
+    /**
+     * 일정 참가자 목록 조회
+     * GET /moims/{moimId}/schedules/{scheduleId}/participants
+     */
+    @GetMapping("/{moimId}/schedules/{scheduleId}/participants")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getScheduleParticipants(
+            @PathVariable Long moimId,
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            
+            // 모임 멤버인지 확인
+            if (!moimMemberRepository.existsByMoimIdAndUserId(moimId, userId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("모임 멤버만 접근할 수 있습니다.")
+                                .build());
+            }
+            
+            if (page < 1 || size < 1 || size > 100) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.<Map<String, Object>>builder()
+                                .success(false)
+                                .message("페이지는 1 이상, 크기는 1-100 사이여야 합니다.")
+                                .build());
+            }
+            
+            Map<String, Object> response = scheduleService.getScheduleParticipants(moimId, scheduleId, status, page, size);
+            
+            return ResponseEntity.ok(ApiResponse.<Map<String, Object>>builder()
+                    .success(true)
+                    .message("일정 참가자 목록 조회 성공")
+                    .data(response)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("일정 참가자 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build());
+        } catch (Exception e) {
+            log.error("일정 참가자 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("일정 참가자 목록 조회 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_SERVER_ERROR")
+                            .build());
+        }
+    }
+    
     /**
      * 일정 참석/불참
      * POST /moims/{moimId}/schedules/{scheduleId}/participate
@@ -51,6 +51,22 @@ public class CreateMoimRequest {
     @Size(max = 500, message = "상세 주소는 500자 이하로 입력해주세요.")
     private String locationDetail;
     
+    @DecimalMin(value = "-90.0", message = "올바른 위도를 입력해주세요.")
+    @DecimalMax(value = "90.0", message = "올바른 위도를 입력해주세요.")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "올바른 경도를 입력해주세요.")
+    @DecimalMax(value = "180.0", message = "올바른 경도를 입력해주세요.")
+    private Double longitude;
+    
+    /**
+     * 위도/경도는 함께 입력되어야 함
+     */
+    @AssertTrue(message = "위도와 경도를 함께 입력해주세요.")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
+    
     /**
      * 온라인 타입에 따른 지역 필수 여부 검증
      */
@@ -3,6 +3,9 @@ package com.moimlog.moimlog_backend.dto.request;
 import com.moimlog.moimlog_backend.entity.Schedule;
 import lombok.*;
 
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -34,6 +37,14 @@ public class CreateScheduleRequest {
     
     private String locationDetail;
     
+    @DecimalMin(value = "-90.0", message = "올바른 위도를 입력해주세요.")
+    @DecimalMax(value = "90.0", message = "올바른 위도를 입력해주세요.")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "올바른 경도를 입력해주세요.")
+    @DecimalMax(value = "180.0", message = "올바른 경도를 입력해주세요.")
+    private Double longitude;
+    
     private Integer maxAttendees;
     
     @NotNull(message = "일정 타입은 필수입니다.")
@@ -44,4 +55,12 @@ public class CreateScheduleRequest {
     
     @Size(max = 200, message = "반복 규칙은 200자를 초과할 수 없습니다.")
     private String recurrenceRule;
+    
+    /**
+     * 위도/경도는 함께 입력되어야 함
+     */
+    @AssertTrue(message = "위도와 경도를 함께 입력해주세요.")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
@@ -0,0 +1,48 @@
+package com.moimlog.moimlog_backend.dto.request;
+
+import lombok.*;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 회차 취소/변경 요청 DTO
+ * 변경하지 않을 항목은 비워 두면 원래 일정의 값을 사용한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleExceptionRequest {
+    
+    @NotNull(message = "회차 일시는 필수입니다.")
+    private LocalDateTime occurrenceDate;
+    
+    @Builder.Default
+    private Boolean isCancelled = false;
+    
+    @Size(max = 200, message = "일정 제목은 200자를 초과할 수 없습니다.")
+    private String title;
+    
+    private String description;
+    
+    private LocalDateTime startDate;
+    
+    private LocalDateTime endDate;
+    
+    @Size(max = 500, message = "위치는 500자를 초과할 수 없습니다.")
+    private String location;
+    
+    private String locationDetail;
+    
+    /**
+     * 종료 일시는 시작 일시 이후여야 함
+     */
+    @AssertTrue(message = "종료 일시는 시작 일시 이후여야 합니다.")
+    public boolean isDateRangeValid() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+}
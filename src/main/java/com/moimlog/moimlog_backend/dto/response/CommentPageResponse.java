@@ -0,0 +1,19 @@
+package com.moimlog.moimlog_backend.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 댓글/답글 페이지 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageResponse {
+    
+    private List<PostResponse.CommentResponse> comments;
+    private PostListResponse.PaginationInfo pagination;
+}
@@ -0,0 +1,86 @@
+package com.moimlog.moimlog_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.entity.MoimMember;
+import com.moimlog.moimlog_backend.repository.projection.MoimListRow;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모임 목록 항목 응답 DTO
+ * (모임 목록, 인기/최신 모임, 주변 모임 조회에서 공통으로 사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoimListItemResponse {
+    
+    private Long id;
+    private String title;
+    private String description;
+    private Long categoryId;
+    private String categoryName;
+    private String categoryLabel;
+    private String categoryColor;
+    private List<String> tags;
+    private String thumbnail;
+    private Integer maxMembers;
+    private Integer currentMembers;
+    private Boolean isPrivate;
+    private Boolean isActive;
+    private Moim.OnlineType onlineType;
+    private String location;
+    private String locationDetail;
+    private Double latitude;
+    private Double longitude;
+    private String createdBy;
+    private String creatorName;
+    private String creatorProfileImage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    // 사용자별 정보 (로그인하지 않은 경우 false/null)
+    private Boolean isMember;
+    private Boolean isFavorite;
+    private MoimMember.Role userRole;
+    
+    // 주변 모임 조회 시 검색 위치로부터의 거리 (km)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+    
+    // 목록 조회 프로젝션을 DTO로 변환하는 정적 메서드
+    public static MoimListItemResponse fromRow(MoimListRow row, List<String> tags) {
+        return MoimListItemResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .categoryId(row.getCategoryId())
+                .categoryName(row.getCategoryName())
+                .categoryLabel(row.getCategoryLabel())
+                .categoryColor(row.getCategoryColor())
+                .tags(tags)
+                .thumbnail(row.getThumbnail())
+                .maxMembers(row.getMaxMembers())
+                .currentMembers(row.getCurrentMembers())
+                .isPrivate(row.getIsPrivate())
+                .isActive(row.getIsActive())
+                .onlineType(row.getOnlineType())
+                .location(row.getLocation())
+                .locationDetail(row.getLocationDetail())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .createdBy(row.getCreatorNickname() != null ? row.getCreatorNickname() : row.getCreatorName())
+                .creatorName(row.getCreatorName())
+                .creatorProfileImage(row.getCreatorProfileImage())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .isMember(false)
+                .isFavorite(false)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.moimlog.moimlog_backend.dto.response;
 
 import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.repository.projection.PostListRow;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -17,13 +18,14 @@ import java.util.List;
 public class PostListResponse {
     
     private List<PostSummary> posts;
+    private List<PostSummary> pinnedPosts;  // 고정 게시글 (커서 조회 첫 페이지에만 포함)
     private PaginationInfo pagination;
     
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class PostSummary {
         private Long id;
         private String title;
@@ -34,6 +36,7 @@ public class PostListResponse {
         private Integer viewCount;
         private Integer likeCount;
         private Integer commentCount;
+        private Boolean likedByMe;  // 현재 사용자의 좋아요 여부
         private Long authorId;
         private String authorName;
         private String authorProfileImage;
@@ -62,6 +65,29 @@ public class PostListResponse {
                     .updatedAt(post.getUpdatedAt())
                     .build();
         }
+        
+        // 목록 행 프로젝션을 DTO로 변환하는 정적 메서드
+        public static PostSummary fromRow(PostListRow row) {
+            String contentHead = row.getContentHead();
+            return PostSummary.builder()
+                    .id(row.getId())
+                    .title(row.getTitle())
+                    .content(contentHead != null && contentHead.length() > PostListRow.PREVIEW_LENGTH ?
+                            contentHead.substring(0, PostListRow.PREVIEW_LENGTH) + "..." :
+                            contentHead)
+                    .type(row.getType())
+                    .isPinned(row.getIsPinned())
+                    .isAnonymous(row.getIsAnonymous())
+                    .viewCount(row.getViewCount())
+                    .likeCount(row.getLikeCount())
+                    .commentCount(row.getCommentCount())
+                    .authorId(row.getAuthorId())
+                    .authorName(row.getIsAnonymous() ? "익명" : row.getAuthorName())
+                    .authorProfileImage(row.getIsAnonymous() ? null : row.getAuthorProfileImage())
+                    .createdAt(row.getCreatedAt())
+                    .updatedAt(row.getUpdatedAt())
+                    .build();
+        }
     }
     
     @Getter
@@ -79,7 +105,7 @@ public class PostListResponse {
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class PaginationInfo {
         private Integer currentPage;
         private Integer totalPages;
@@ -87,5 +113,6 @@ public class PostListResponse {
         private Integer size;
         private Boolean hasNext;
         private Boolean hasPrevious;
+        private String nextCursor;  // 커서 조회 시 다음 페이지 커서 (마지막 페이지면 null)
     }
 }
@@ -13,10 +13,11 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     
     private Long id;
+    private Long moimId;
     private String title;
     private String content;
     private Post.PostType type;
@@ -25,6 +26,7 @@ public class PostResponse {
     private Integer viewCount;
     private Integer likeCount;
     private Integer commentCount;
+    private Boolean likedByMe;  // 현재 사용자의 좋아요 여부
     private Long authorId;
     private String authorName;
     private String authorProfileImage;
@@ -32,12 +34,13 @@ public class PostResponse {
     private LocalDateTime updatedAt;
     private List<PostImageResponse> images;
     private List<CommentResponse> comments;
+    private PostListResponse.PaginationInfo commentPagination;
     
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class PostImageResponse {
         private Long id;
         private String imageUrl;
@@ -49,7 +52,7 @@ public class PostResponse {
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class CommentResponse {
         private Long id;
         private String content;
@@ -58,8 +61,10 @@ public class PostResponse {
         private String authorProfileImage;
         private Boolean isAnonymous;
         private Integer likeCount;
+        private Boolean likedByMe;  // 현재 사용자의 좋아요 여부
         private LocalDateTime createdAt;
         private Long parentId;
+        private Integer replyCount;  // 전체 답글 수 (replies 에 일부만 포함된 경우 답글 페이지 API로 나머지 조회)
         private List<CommentResponse> replies;
     }
     
@@ -67,6 +72,7 @@ public class PostResponse {
     public static PostResponse fromEntity(Post post) {
         return PostResponse.builder()
                 .id(post.getId())
+                .moimId(post.getMoim().getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .type(post.getType())
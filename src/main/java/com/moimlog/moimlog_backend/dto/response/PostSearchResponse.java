@@ -0,0 +1,33 @@
+package com.moimlog.moimlog_backend.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchResponse {
+    
+    private List<SearchResult> results;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    private Boolean hasNext;
+    private Integer totalCount;  // 전체 검색 결과 수 (색인 기준 근사값, DB 대체 검색이면 null)
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SearchResult {
+        private PostListResponse.PostSummary post;
+        private Double score;  // 관련도 점수 (DB 대체 검색이면 null)
+        private String highlightedTitle;  // 검색어를 <em> 으로 감싼 제목 (HTML 이스케이프됨)
+        private String snippet;  // 검색어 주변 본문 발췌 (HTML 이스케이프됨)
+    }
+}
@@ -64,6 +64,12 @@ public class Moim {
     @Column(name = "location_detail", columnDefinition = "TEXT")
     private String locationDetail;
     
+    @Column(name = "latitude")
+    private Double latitude; // 위도 (오프라인/하이브리드 모임 위치 검색용)
+    
+    @Column(name = "longitude")
+    private Double longitude; // 경도
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
@@ -127,6 +133,11 @@ public class Moim {
     
     // JSON 문자열을 태그 리스트로 변환
     public List<String> getTagsAsList() {
+        return parseTags(tags);
+    }
+    
+    // 태그 JSON 문자열 파싱 (목록 조회 프로젝션에서도 사용)
+    public static List<String> parseTags(String tags) {
         if (tags == null || tags.isEmpty()) {
             return List.of();
         }
@@ -0,0 +1,51 @@
+package com.moimlog.moimlog_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 게시판 카운터 엔티티 클래스
+ * 모임 전체/멤버별, 게시글 타입별 게시글 수와 댓글 수를 미리 집계해 두는 테이블
+ * 게시글/댓글 작성과 같은 트랜잭션에서 MoimBoardCounterRepository 의 증감 쿼리로만 갱신하며,
+ * 애플리케이션에서는 읽기만 한다.
+ */
+@Entity
+@Immutable
+@Table(name = "moim_board_counters",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"moim_id", "user_id", "post_type"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoimBoardCounter {
+    
+    // 모임 전체 합계 행의 user_id
+    public static final long MOIM_TOTAL = 0L;
+    // 전체 타입 합계 행의 post_type (댓글 수는 이 행에만 집계)
+    public static final String ALL_TYPES = "ALL";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "moim_id", nullable = false)
+    private Long moimId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "post_type", nullable = false, length = 20)
+    private String postType;
+    
+    @Column(name = "post_count", nullable = false)
+    private Integer postCount;
+    
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
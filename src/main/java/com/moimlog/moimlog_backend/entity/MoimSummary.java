@@ -0,0 +1,99 @@
+package com.moimlog.moimlog_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 조회 모델 엔티티 클래스
+ * 모임 목록/상세 조회용으로 모임, 카테고리, 생성자 정보를 한 행에 펼쳐 저장하는 테이블
+ * MoimSummaryProjector 가 모임 변경 이벤트를 받아 갱신하며, 애플리케이션에서는 읽기만 한다.
+ */
+@Entity
+@Immutable
+@Table(name = "moim_summary")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoimSummary {
+    
+    @Id
+    @Column(name = "moim_id")
+    private Long moimId;
+    
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+    
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+    
+    @Column(name = "category_id")
+    private Long categoryId;
+    
+    @Column(name = "category_name", length = 50)
+    private String categoryName;
+    
+    @Column(name = "category_label", length = 50)
+    private String categoryLabel;
+    
+    @Column(name = "category_color", length = 20)
+    private String categoryColor;
+    
+    @Column(name = "tags", columnDefinition = "JSON")
+    private String tags;
+    
+    @Column(name = "thumbnail", length = 500)
+    private String thumbnail;
+    
+    @Column(name = "max_members", nullable = false)
+    private Integer maxMembers;
+    
+    @Column(name = "current_members", nullable = false)
+    private Integer currentMembers;
+    
+    @Column(name = "favorite_count", nullable = false)
+    private Integer favoriteCount;
+    
+    @Column(name = "is_private", nullable = false)
+    private Boolean isPrivate;
+    
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "online_type", nullable = false)
+    private Moim.OnlineType onlineType;
+    
+    @Column(name = "location", length = 500)
+    private String location;
+    
+    @Column(name = "location_detail", columnDefinition = "TEXT")
+    private String locationDetail;
+    
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @Column(name = "longitude")
+    private Double longitude;
+    
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+    
+    @Column(name = "creator_nickname", length = 50)
+    private String creatorNickname;
+    
+    @Column(name = "creator_name", length = 100)
+    private String creatorName;
+    
+    @Column(name = "creator_profile_image", columnDefinition = "TEXT")
+    private String creatorProfileImage;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package com.moimlog.moimlog_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 모임 태그 엔티티 클래스
+ * 모임의 태그를 한 행에 하나씩 저장하는 테이블 (태그 필터/자동완성용)
+ */
+@Entity
+@Table(name = "moim_tags")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoimTag {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "moim_id", nullable = false)
+    private Moim moim;
+    
+    @Column(name = "tag", nullable = false, length = 20)
+    private String tag;
+    
+    // 정적 팩토리 메서드
+    public static MoimTag createMoimTag(Moim moim, String tag) {
+        return MoimTag.builder()
+                .moim(moim)
+                .tag(tag)
+                .build();
+    }
+}
@@ -71,6 +71,7 @@ public class Post {
     
     // 연관관계 매핑
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("imageOrder ASC, id ASC")
     @Builder.Default
     private List<PostImage> images = new ArrayList<>();
     
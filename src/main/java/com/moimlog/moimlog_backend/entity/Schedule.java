@@ -46,9 +46,20 @@ public class Schedule {
     @Column(name = "location_detail", columnDefinition = "TEXT")
     private String locationDetail;
     
+    @Column(name = "latitude")
+    private Double latitude; // 위도
+    
+    @Column(name = "longitude")
+    private Double longitude; // 경도
+    
     @Column(name = "max_attendees")
     private Integer maxAttendees;
     
+    // 참석(ATTENDING) 인원 (참석 신청 시 조건부 UPDATE 로만 증감)
+    @Column(name = "attending_count", nullable = false)
+    @Builder.Default
+    private Integer attendingCount = 0;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false, length = 20)
     @Builder.Default
@@ -61,6 +72,10 @@ public class Schedule {
     @Column(name = "recurrence_rule", length = 200)
     private String recurrenceRule;
     
+    // 반복 종료 시각 (마지막 회차 시작 시각 이상, 끝나지 않는 반복과 단일 일정은 null)
+    @Column(name = "recurrence_end")
+    private LocalDateTime recurrenceEnd;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
@@ -108,9 +123,6 @@ public class Schedule {
         if (maxAttendees == null || maxAttendees == 0) {
             return false;
         }
-        long attendingCount = participants.stream()
-                .filter(p -> p.getStatus() == ScheduleParticipant.Status.ATTENDING)
-                .count();
         return attendingCount >= maxAttendees;
     }
     
@@ -0,0 +1,80 @@
+package com.moimlog.moimlog_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 예외 엔티티 클래스
+ * 반복 일정의 특정 발생 회차만 취소하거나 내용을 바꾼 정보를 저장하는 테이블
+ * (발생 회차는 원래 규칙상의 시작 일시 occurrence_date 로 식별하며, 변경하지 않은 항목은 NULL)
+ */
+@Entity
+@Table(name = "schedule_exceptions",
+       uniqueConstraints = @UniqueConstraint(name = "unique_schedule_occurrence",
+                                             columnNames = {"schedule_id", "occurrence_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleException {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    private Schedule schedule;
+    
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDateTime occurrenceDate;
+    
+    @Column(name = "is_cancelled", nullable = false)
+    @Builder.Default
+    private Boolean isCancelled = false;
+    
+    @Column(name = "title", length = 200)
+    private String title;
+    
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+    
+    @Column(name = "start_date")
+    private LocalDateTime startDate;
+    
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+    
+    @Column(name = "location", length = 500)
+    private String location;
+    
+    @Column(name = "location_detail", columnDefinition = "TEXT")
+    private String locationDetail;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // JPA 생명주기 메서드
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // 비즈니스 메서드
+    public boolean isOverridden() {
+        return title != null || description != null || startDate != null || endDate != null
+                || location != null || locationDetail != null;
+    }
+}
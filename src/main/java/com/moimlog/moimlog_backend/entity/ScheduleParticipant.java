@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
  * 일정에 참가하는 사용자들의 정보를 저장하는 테이블
  */
 @Entity
-@Table(name = "schedule_participants")
+@Table(name = "schedule_participants",
+       uniqueConstraints = @UniqueConstraint(name = "unique_schedule_user", columnNames = {"schedule_id", "user_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,7 +47,8 @@ public class ScheduleParticipant {
         ATTENDING,      // 참석
         NOT_ATTENDING,  // 불참
         MAYBE,          // 미정
-        PENDING         // 대기
+        PENDING,        // 대기
+        WAITLISTED      // 정원 초과로 참석 대기 (자리가 나면 신청 순서대로 참석으로 전환)
     }
     
     // JPA 생명주기 메서드
@@ -0,0 +1,24 @@
+package com.moimlog.moimlog_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 모임 변경 도메인 이벤트
+ * 모임 생성, 멤버 참여/탈퇴 시 발행되며 조회 모델(moim_summary), 피드 캐시, 카테고리 캐시가
+ * 트랜잭션 커밋 후 이 이벤트로 갱신된다. (인기 랭킹은 서비스에서 직접 커밋 후 갱신)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class MoimChangedEvent {
+    
+    private final Long moimId;
+    private final Type type;
+    
+    // 변경 유형 enum
+    public enum Type {
+        CREATED, MEMBER_JOINED, MEMBER_LEFT
+    }
+}
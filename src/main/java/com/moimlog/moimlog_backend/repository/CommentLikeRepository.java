@@ -2,10 +2,12 @@ package com.moimlog.moimlog_backend.repository;
 
 import com.moimlog.moimlog_backend.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,4 +73,27 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
      */
     @Query("SELECT cl FROM CommentLike cl WHERE cl.user.id = :userId ORDER BY cl.createdAt DESC")
     List<CommentLike> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+    
+    /**
+     * 댓글 ID 목록 중 사용자가 좋아요한 댓글 ID 조회 (댓글 트리의 likedByMe 일괄 계산용)
+     */
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+    
+    /**
+     * 좋아요 추가 (unique(comment_id, user_id) 기준, 이미 있으면 무시)
+     * @return 추가된 행 수 (0이면 이미 좋아요 상태)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (comment_id, user_id, created_at) VALUES (:commentId, :userId, NOW())",
+           nativeQuery = true)
+    int insertIgnore(@Param("commentId") Long commentId, @Param("userId") Long userId);
+    
+    /**
+     * 좋아요 삭제
+     * @return 삭제된 행 수 (0이면 좋아요하지 않은 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
+    int deleteLike(@Param("commentId") Long commentId, @Param("userId") Long userId);
 }
@@ -4,11 +4,14 @@ import com.moimlog.moimlog_backend.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글 레포지토리 인터페이스
@@ -57,4 +60,67 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * 게시글 ID로 모든 댓글 삭제 (게시글 삭제 시)
      */
     void deleteByPostId(Long postId);
+    
+    /**
+     * 게시글의 전체 댓글을 작성자와 함께 조회 (댓글 트리 조립용)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithAuthorByPostId(@Param("postId") Long postId);
+    
+    /**
+     * 게시글의 최상위 댓글 페이지를 작성자와 함께 조회
+     */
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author " +
+                   "WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL")
+    Page<Comment> findTopLevelWithAuthorByPostId(@Param("postId") Long postId, Pageable pageable);
+    
+    /**
+     * 댓글의 답글 페이지를 작성자와 함께 조회
+     */
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author " +
+                   "WHERE c.parent.id = :parentId ORDER BY c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId")
+    Page<Comment> findRepliesWithAuthorByParentId(@Param("parentId") Long parentId, Pageable pageable);
+    
+    /**
+     * 댓글 ID 목록으로 작성자와 함께 조회
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 부모 댓글별 답글 수 집계 (부모 댓글 ID, 답글 수)
+     */
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countRepliesGroupByParentId(@Param("parentIds") Collection<Long> parentIds);
+    
+    /**
+     * 부모 댓글별 처음 N개 답글 ID 조회 (답글 미리보기용)
+     */
+    @Query(value = "SELECT ranked.id FROM (" +
+                   "  SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                   "  FROM comments c WHERE c.parent_id IN (:parentIds)" +
+                   ") ranked WHERE ranked.rn <= :limit",
+           nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIdIn(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+    
+    /**
+     * 댓글 좋아요 수 증감 (행을 읽지 않고 현재 값 기준으로 갱신, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId AND c.likeCount + :delta >= 0")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+    
+    /**
+     * 댓글 좋아요 수 조회
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Optional<Integer> findLikeCountById(@Param("commentId") Long commentId);
+    
+    /**
+     * 댓글이 속한 게시글 ID 조회
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
 }
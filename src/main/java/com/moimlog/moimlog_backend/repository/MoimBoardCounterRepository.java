@@ -0,0 +1,56 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.MoimBoardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 모임 게시판 카운터 레포지토리 인터페이스
+ * 카운터 행은 (모임, 사용자, 게시글 타입) 단위이며, 사용자 0 은 모임 전체, 타입 ALL 은 전체 타입 합계이다.
+ * 증감은 행이 없으면 만들고 있으면 더하는 단일 INSERT ... ON DUPLICATE KEY UPDATE 로 처리한다.
+ */
+@Repository
+public interface MoimBoardCounterRepository extends JpaRepository<MoimBoardCounter, Long> {
+    
+    /**
+     * 게시글 수 증감 (모임 전체/작성자 × 해당 타입/전체 타입, 4개 행)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO moim_board_counters (moim_id, user_id, post_type, post_count, comment_count, updated_at) VALUES " +
+                   "(:moimId, 0, :postType, GREATEST(:delta, 0), 0, NOW()), " +
+                   "(:moimId, 0, 'ALL', GREATEST(:delta, 0), 0, NOW()), " +
+                   "(:moimId, :userId, :postType, GREATEST(:delta, 0), 0, NOW()), " +
+                   "(:moimId, :userId, 'ALL', GREATEST(:delta, 0), 0, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE post_count = GREATEST(post_count + :delta, 0), updated_at = NOW()",
+           nativeQuery = true)
+    int addPostCount(@Param("moimId") Long moimId, @Param("userId") Long userId,
+                     @Param("postType") String postType, @Param("delta") int delta);
+    
+    /**
+     * 댓글 수 증감 (모임 전체/작성자의 전체 타입 행, 2개 행)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO moim_board_counters (moim_id, user_id, post_type, post_count, comment_count, updated_at) VALUES " +
+                   "(:moimId, 0, 'ALL', 0, GREATEST(:delta, 0), NOW()), " +
+                   "(:moimId, :userId, 'ALL', 0, GREATEST(:delta, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE comment_count = GREATEST(comment_count + :delta, 0), updated_at = NOW()",
+           nativeQuery = true)
+    int addCommentCount(@Param("moimId") Long moimId, @Param("userId") Long userId, @Param("delta") int delta);
+    
+    /**
+     * 모임 (또는 멤버)의 타입별 카운터 행 조회
+     */
+    List<MoimBoardCounter> findByMoimIdAndUserId(Long moimId, Long userId);
+    
+    /**
+     * 모임 멤버들의 전체 타입 합계 행 일괄 조회
+     */
+    @Query("SELECT c FROM MoimBoardCounter c WHERE c.moimId = :moimId AND c.postType = 'ALL' AND c.userId IN :userIds")
+    List<MoimBoardCounter> findMemberTotals(@Param("moimId") Long moimId, @Param("userIds") Collection<Long> userIds);
+}
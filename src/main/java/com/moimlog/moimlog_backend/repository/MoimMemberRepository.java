@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -34,6 +35,13 @@ public interface MoimMemberRepository extends JpaRepository<MoimMember, Long> {
      */
     Optional<MoimMember> findByMoimIdAndUserId(Long moimId, Long userId);
     
+    /**
+     * 여러 모임에 대한 특정 사용자의 멤버십 일괄 조회 (목록 화면용)
+     */
+    @Query("SELECT mm FROM MoimMember mm WHERE mm.user.id = :userId AND mm.moim.id IN :moimIds")
+    List<MoimMember> findByUserIdAndMoimIdIn(@Param("userId") Long userId,
+                                             @Param("moimIds") Collection<Long> moimIds);
+    
     /**
      * 모임에 특정 사용자가 멤버로 존재하는지 확인
      */
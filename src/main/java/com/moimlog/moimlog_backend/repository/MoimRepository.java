@@ -50,6 +50,11 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
      */
     List<Moim> findByIsActive(Boolean isActive);
     
+    /**
+     * 활성 모임 목록 조회 (페이지네이션, 검색 색인 구축용)
+     */
+    Page<Moim> findByIsActiveTrue(Pageable pageable);
+    
     /**
      * 최대 인원 범위로 모임 검색
      */
@@ -67,9 +72,9 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
     List<Moim> findByLocationContainingIgnoreCase(String location);
     
     /**
-     * 태그가 포함된 모임 검색
+     * 태그가 일치하는 모임 검색 (moim_tags 테이블 기준)
      */
-    @Query("SELECT m FROM Moim m WHERE m.tags LIKE %:tag%")
+    @Query("SELECT m FROM Moim m WHERE EXISTS (SELECT t.id FROM MoimTag t WHERE t.moim = m AND t.tag = :tag)")
     List<Moim> findByTagContaining(@Param("tag") String tag);
     
     /**
@@ -99,6 +104,48 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
      */
     long countByCategoryIdAndIsActiveTrue(Long categoryId);
     
+    /**
+     * 카테고리별 활성 모임 수 집계 (카테고리 ID, 모임 수)
+     */
+    @Query("SELECT m.category.id, COUNT(m) FROM Moim m " +
+           "WHERE m.isActive = true AND m.category IS NOT NULL GROUP BY m.category.id")
+    List<Object[]> countActiveMoimsGroupByCategory();
+    
+    /**
+     * 인기 랭킹 계산용 활성 모임 통계 조회 (모임 ID, 카테고리 ID, 생성일, 현재 멤버 수)
+     */
+    @Query("SELECT m.id, c.id, m.createdAt, m.currentMembers FROM Moim m LEFT JOIN m.category c WHERE m.isActive = true")
+    List<Object[]> findActiveMoimRankingStats();
+    
+    /**
+     * 좌표가 있는 활성 오프라인/하이브리드 모임 조회 (모임 ID, 위도, 경도) - 위치 색인 구축용
+     */
+    @Query("SELECT m.id, m.latitude, m.longitude FROM Moim m WHERE m.isActive = true " +
+           "AND m.onlineType <> :excludedType AND m.latitude IS NOT NULL AND m.longitude IS NOT NULL")
+    List<Object[]> findMoimCoordinatesExcludingType(@Param("excludedType") Moim.OnlineType excludedType);
+    
+    /**
+     * 좌표 범위(bounding box) 안의 활성 오프라인/하이브리드 모임 조회 (모임 ID, 위도, 경도)
+     */
+    @Query("SELECT m.id, m.latitude, m.longitude FROM Moim m WHERE m.isActive = true " +
+           "AND m.onlineType <> :excludedType " +
+           "AND m.latitude BETWEEN :minLatitude AND :maxLatitude " +
+           "AND m.longitude BETWEEN :minLongitude AND :maxLongitude")
+    List<Object[]> findMoimCoordinatesWithin(
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude,
+            @Param("excludedType") Moim.OnlineType excludedType
+    );
+    
+    /**
+     * 좌표가 있는 활성 오프라인/하이브리드 모임 조회 (위치 색인 구축용)
+     */
+    default List<Object[]> findActiveMoimCoordinates() {
+        return findMoimCoordinatesExcludingType(Moim.OnlineType.ONLINE);
+    }
+    
     /**
      * 제목 존재 여부 확인
      */
@@ -114,33 +161,6 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
      */
     Page<Moim> findByCreatedBy(User createdBy, Pageable pageable);
     
-    /**
-     * 복합 필터링을 통한 모임 목록 조회
-     */
-    @Query("SELECT m FROM Moim m WHERE " +
-           "(:categoryId IS NULL OR m.category.id = :categoryId) AND " +
-           "(:onlineType IS NULL OR m.onlineType = :onlineType) AND " +
-           "(:location IS NULL OR m.location LIKE %:location%) AND " +
-           "(:minMembers IS NULL OR m.maxMembers >= :minMembers) AND " +
-           "(:maxMembers IS NULL OR m.maxMembers <= :maxMembers) AND " +
-           "(:isPrivate IS NULL OR m.isPrivate = :isPrivate) AND " +
-           "(:search IS NULL OR (" +
-           "  m.title LIKE %:search% OR " +
-           "  m.description LIKE %:search% OR " +
-           "  m.tags LIKE %:search%" +
-           ")) AND " +
-           "m.isActive = true")
-    Page<Moim> findMoimsWithFilters(
-            @Param("categoryId") Long categoryId,
-            @Param("onlineType") String onlineType,
-            @Param("location") String location,
-            @Param("search") String search,
-            @Param("minMembers") Integer minMembers,
-            @Param("maxMembers") Integer maxMembers,
-            @Param("isPrivate") Boolean isPrivate,
-            Pageable pageable
-    );
-    
     /**
      * 인기 모임 목록 조회 (멤버 수 기준)
      */
@@ -0,0 +1,186 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.entity.MoimSummary;
+import com.moimlog.moimlog_backend.repository.projection.MoimListRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 모임 조회 모델(moim_summary) 데이터 접근을 위한 Repository 인터페이스
+ * 모임 목록/상세 조회는 조인 없이 이 테이블만 읽는다.
+ */
+@Repository
+public interface MoimSummaryRepository extends JpaRepository<MoimSummary, Long> {
+    
+    /**
+     * 모임 목록 행 프로젝션 SELECT 절 (조회 모델 한 테이블)
+     */
+    String LIST_ROW_SELECT = "SELECT new com.moimlog.moimlog_backend.repository.projection.MoimListRow(" +
+            "s.moimId, s.title, s.description, s.categoryId, s.categoryName, s.categoryLabel, s.categoryColor, " +
+            "s.tags, s.thumbnail, s.maxMembers, s.currentMembers, s.isPrivate, s.isActive, s.onlineType, " +
+            "s.location, s.locationDetail, s.latitude, s.longitude, " +
+            "s.creatorNickname, s.creatorName, s.creatorProfileImage, s.createdAt, s.updatedAt) " +
+            "FROM MoimSummary s ";
+    
+    /**
+     * 목록 공통 필터 조건 (활성 모임만)
+     */
+    String FILTER_CONDITIONS =
+            "(:categoryId IS NULL OR s.categoryId = :categoryId) AND " +
+            "(:onlineType IS NULL OR s.onlineType = :onlineType) AND " +
+            "(:location IS NULL OR s.location LIKE %:location%) AND " +
+            "(:minMembers IS NULL OR s.maxMembers >= :minMembers) AND " +
+            "(:maxMembers IS NULL OR s.maxMembers <= :maxMembers) AND " +
+            "(:isPrivate IS NULL OR s.isPrivate = :isPrivate) AND " +
+            "(:tag IS NULL OR EXISTS (SELECT t.id FROM MoimTag t WHERE t.moim.id = s.moimId AND t.tag = :tag)) AND " +
+            "s.isActive = true ";
+    
+    /**
+     * 모임 원본 테이블에서 조회 모델 컬럼을 계산하는 SELECT 절 (database.md 의 백필 SQL 과 동일하게 유지)
+     */
+    String SOURCE_SELECT = "SELECT m.id, m.title, m.description, c.id, c.name, c.label, c.color, m.tags, m.thumbnail, " +
+            "m.max_members, m.current_members, " +
+            "(SELECT COUNT(*) FROM user_favorites f WHERE f.moim_id = m.id), " +
+            "m.is_private, m.is_active, m.online_type, m.location, m.location_detail, m.latitude, m.longitude, " +
+            "u.id, u.nickname, u.name, u.profile_image, m.created_at, m.updated_at " +
+            "FROM moims m LEFT JOIN moim_categories c ON c.id = m.category_id JOIN users u ON u.id = m.created_by ";
+    
+    /**
+     * 조회 모델 컬럼 목록 (SOURCE_SELECT 순서와 일치)
+     */
+    String SUMMARY_COLUMNS = "(moim_id, title, description, category_id, category_name, category_label, category_color, " +
+            "tags, thumbnail, max_members, current_members, favorite_count, is_private, is_active, online_type, " +
+            "location, location_detail, latitude, longitude, " +
+            "creator_id, creator_nickname, creator_name, creator_profile_image, created_at, updated_at) ";
+    
+    /**
+     * 모임 한 건의 조회 모델 행을 원본 기준으로 다시 계산해 교체
+     */
+    @Modifying
+    @Query(value = "REPLACE INTO moim_summary " + SUMMARY_COLUMNS + SOURCE_SELECT + "WHERE m.id = :moimId",
+           nativeQuery = true)
+    int refresh(@Param("moimId") Long moimId);
+    
+    /**
+     * 모임 한 건의 조회 모델 행 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM moim_summary WHERE moim_id = :moimId", nativeQuery = true)
+    int deleteSummary(@Param("moimId") Long moimId);
+    
+    /**
+     * 복합 필터링을 통한 모임 목록 조회 (목록 행 프로젝션)
+     */
+    @Query(value = LIST_ROW_SELECT + "WHERE " + FILTER_CONDITIONS + "AND " +
+           "(:search IS NULL OR (" +
+           "  s.title LIKE %:search% OR " +
+           "  s.description LIKE %:search% OR " +
+           "  s.tags LIKE %:search%" +
+           "))",
+           countQuery = "SELECT COUNT(s) FROM MoimSummary s WHERE " + FILTER_CONDITIONS + "AND " +
+                        "(:search IS NULL OR (" +
+                        "  s.title LIKE %:search% OR " +
+                        "  s.description LIKE %:search% OR " +
+                        "  s.tags LIKE %:search%" +
+                        "))")
+    Page<MoimListRow> findMoimListRowsWithFilters(
+            @Param("categoryId") Long categoryId,
+            @Param("onlineType") Moim.OnlineType onlineType,
+            @Param("location") String location,
+            @Param("search") String search,
+            @Param("minMembers") Integer minMembers,
+            @Param("maxMembers") Integer maxMembers,
+            @Param("isPrivate") Boolean isPrivate,
+            @Param("tag") String tag,
+            Pageable pageable
+    );
+    
+    /**
+     * 복합 필터링 조건의 모임 수 조회 (커서 페이지네이션에서 전체 개수를 요청한 경우에만 사용)
+     */
+    @Query("SELECT COUNT(s) FROM MoimSummary s WHERE " + FILTER_CONDITIONS)
+    long countMoimsWithFilters(
+            @Param("categoryId") Long categoryId,
+            @Param("onlineType") Moim.OnlineType onlineType,
+            @Param("location") String location,
+            @Param("minMembers") Integer minMembers,
+            @Param("maxMembers") Integer maxMembers,
+            @Param("isPrivate") Boolean isPrivate,
+            @Param("tag") String tag
+    );
+    
+    /**
+     * 최신순 모임 목록 커서 조회 (createdAt, id 기준 keyset)
+     * 커서가 없으면(cursorCreatedAt = null) 첫 페이지를 조회한다.
+     */
+    @Query(LIST_ROW_SELECT + "WHERE " + FILTER_CONDITIONS + "AND " +
+           "(:cursorCreatedAt IS NULL OR s.createdAt < :cursorCreatedAt OR " +
+           " (s.createdAt = :cursorCreatedAt AND s.moimId < :cursorId)) " +
+           "ORDER BY s.createdAt DESC, s.moimId DESC")
+    List<MoimListRow> findLatestMoimsByCursor(
+            @Param("categoryId") Long categoryId,
+            @Param("onlineType") Moim.OnlineType onlineType,
+            @Param("location") String location,
+            @Param("minMembers") Integer minMembers,
+            @Param("maxMembers") Integer maxMembers,
+            @Param("isPrivate") Boolean isPrivate,
+            @Param("tag") String tag,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    /**
+     * 인기순 모임 목록 커서 조회 (currentMembers, createdAt, id 기준 keyset)
+     * 커서가 없으면(cursorMembers = null) 첫 페이지를 조회한다.
+     */
+    @Query(LIST_ROW_SELECT + "WHERE " + FILTER_CONDITIONS + "AND " +
+           "(:cursorMembers IS NULL OR s.currentMembers < :cursorMembers OR " +
+           " (s.currentMembers = :cursorMembers AND (s.createdAt < :cursorCreatedAt OR " +
+           "  (s.createdAt = :cursorCreatedAt AND s.moimId < :cursorId)))) " +
+           "ORDER BY s.currentMembers DESC, s.createdAt DESC, s.moimId DESC")
+    List<MoimListRow> findPopularMoimsByCursor(
+            @Param("categoryId") Long categoryId,
+            @Param("onlineType") Moim.OnlineType onlineType,
+            @Param("location") String location,
+            @Param("minMembers") Integer minMembers,
+            @Param("maxMembers") Integer maxMembers,
+            @Param("isPrivate") Boolean isPrivate,
+            @Param("tag") String tag,
+            @Param("cursorMembers") Integer cursorMembers,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    /**
+     * 검색 색인 결과(모임 ID) 중 필터 조건을 만족하는 모임 ID 조회
+     */
+    @Query("SELECT s.moimId FROM MoimSummary s WHERE s.moimId IN :ids AND " + FILTER_CONDITIONS)
+    List<Long> findFilteredMoimIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("categoryId") Long categoryId,
+            @Param("onlineType") Moim.OnlineType onlineType,
+            @Param("location") String location,
+            @Param("minMembers") Integer minMembers,
+            @Param("maxMembers") Integer maxMembers,
+            @Param("isPrivate") Boolean isPrivate,
+            @Param("tag") String tag
+    );
+    
+    /**
+     * 모임 ID 목록으로 목록 행 일괄 조회 (검색/랭킹/주변 모임 결과 조회용)
+     */
+    @Query(LIST_ROW_SELECT + "WHERE s.moimId IN :ids")
+    List<MoimListRow> findMoimListRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
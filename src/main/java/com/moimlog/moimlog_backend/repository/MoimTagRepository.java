@@ -0,0 +1,40 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.MoimTag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 모임 태그 데이터 접근을 위한 Repository 인터페이스
+ */
+@Repository
+public interface MoimTagRepository extends JpaRepository<MoimTag, Long> {
+    
+    /**
+     * 모임 ID로 태그 목록 조회
+     */
+    List<MoimTag> findByMoimIdOrderByIdAsc(Long moimId);
+    
+    /**
+     * 모임 ID로 태그 삭제
+     */
+    void deleteByMoimId(Long moimId);
+    
+    /**
+     * 활성 모임의 태그 조회 (모임 ID, 태그) - 태그 색인 구축용
+     */
+    @Query("SELECT t.moim.id, t.tag FROM MoimTag t WHERE t.moim.isActive = true ORDER BY t.moim.id, t.id")
+    List<Object[]> findActiveMoimTags();
+    
+    /**
+     * 태그 접두어로 태그별 활성 모임 수 조회 (태그, 모임 수) - 색인 준비 전 자동완성용
+     */
+    @Query("SELECT t.tag, COUNT(t) FROM MoimTag t WHERE t.tag LIKE :prefix% AND t.moim.isActive = true " +
+           "GROUP BY t.tag ORDER BY COUNT(t) DESC, t.tag ASC")
+    List<Object[]> countTagsByPrefix(@Param("prefix") String prefix, Pageable pageable);
+}
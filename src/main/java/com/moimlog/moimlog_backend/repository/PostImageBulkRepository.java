@@ -0,0 +1,17 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.PostImage;
+
+import java.util.List;
+
+/**
+ * 게시글 이미지 일괄 저장 (PostImageRepository 커스텀 프래그먼트)
+ * IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 묶지 못하므로 여러 행 INSERT 한 번으로 저장한다.
+ */
+public interface PostImageBulkRepository {
+    
+    /**
+     * 게시글 이미지 일괄 저장 (저장된 행 수 반환, 엔티티 ID 는 채우지 않음)
+     */
+    int insertAll(Long postId, List<PostImage> images);
+}
@@ -0,0 +1,45 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.PostImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 이미지 일괄 저장 구현 (INSERT ... VALUES (...), (...) 한 문장)
+ * JPA 와 같은 DataSource/트랜잭션을 사용하므로 호출한 서비스 트랜잭션에 함께 커밋된다.
+ */
+@RequiredArgsConstructor
+public class PostImageBulkRepositoryImpl implements PostImageBulkRepository {
+    
+    // 한 문장에 담는 최대 행 수 (패킷 크기 제한 대비)
+    private static final int MAX_ROWS_PER_STATEMENT = 100;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public int insertAll(Long postId, List<PostImage> images) {
+        int inserted = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < images.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<PostImage> chunk = images.subList(from, Math.min(images.size(), from + MAX_ROWS_PER_STATEMENT));
+            
+            StringBuilder sql = new StringBuilder("INSERT INTO post_images (post_id, image_url, image_order, created_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (int i = 0; i < chunk.size(); i++) {
+                PostImage image = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+                args.add(postId);
+                args.add(image.getImageUrl());
+                args.add(image.getImageOrder() != null ? image.getImageOrder() : from + i);
+                args.add(now);
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+}
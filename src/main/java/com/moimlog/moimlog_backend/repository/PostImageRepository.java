@@ -0,0 +1,13 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 이미지 레포지토리 인터페이스
+ * 게시글 이미지 관련 데이터베이스 작업을 담당 (일괄 저장은 PostImageBulkRepository)
+ */
+@Repository
+public interface PostImageRepository extends JpaRepository<PostImage, Long>, PostImageBulkRepository {
+}
@@ -2,10 +2,12 @@ package com.moimlog.moimlog_backend.repository;
 
 import com.moimlog.moimlog_backend.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,4 +62,27 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      * 게시글에 좋아요를 눌렀는지 확인
      */
     boolean existsByPostIdAndUserId(Long postId, Long userId);
+    
+    /**
+     * 게시글 ID 목록 중 사용자가 좋아요한 게시글 ID 조회 (목록/상세의 likedByMe 일괄 계산용)
+     */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+    
+    /**
+     * 좋아요 추가 (unique(post_id, user_id) 기준, 이미 있으면 무시)
+     * @return 추가된 행 수 (0이면 이미 좋아요 상태)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())",
+           nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+    
+    /**
+     * 좋아요 삭제
+     * @return 삭제된 행 수 (0이면 좋아요하지 않은 상태)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
 }
@@ -1,6 +1,7 @@
 package com.moimlog.moimlog_backend.repository;
 
 import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.repository.projection.PostListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,16 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
+    /**
+     * 목록 행 조회 공통 SELECT (본문은 미리보기 길이 + 1자까지만, 작성자는 같은 쿼리에서 조인)
+     * 생성자 인자 순서는 PostListRow 와 일치해야 한다.
+     */
+    String LIST_ROW_SELECT = "SELECT new com.moimlog.moimlog_backend.repository.projection.PostListRow(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + (PostListRow.PREVIEW_LENGTH + 1) + "), p.type, " +
+            "p.isPinned, p.isAnonymous, p.viewCount, p.likeCount, p.commentCount, " +
+            "a.id, a.name, a.profileImage, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.author a ";
+    
     /**
      * 모임 ID로 게시글 목록 조회 (페이지네이션)
      */
@@ -31,24 +44,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             Long moimId, Post.PostType type, Pageable pageable);
     
     /**
-     * 모임 ID와 검색어로 게시글 검색
+     * 모임 ID로 게시글 목록 행 조회 (정렬은 Pageable 로 지정)
+     */
+    @Query(value = LIST_ROW_SELECT + "WHERE p.moim.id = :moimId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.moim.id = :moimId")
+    Page<PostListRow> findPostListRowsByMoimId(@Param("moimId") Long moimId, Pageable pageable);
+    
+    /**
+     * 모임 ID와 게시글 타입으로 게시글 목록 행 조회 (정렬은 Pageable 로 지정)
+     */
+    @Query(value = LIST_ROW_SELECT + "WHERE p.moim.id = :moimId AND p.type = :type",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.moim.id = :moimId AND p.type = :type")
+    Page<PostListRow> findPostListRowsByMoimIdAndType(
+            @Param("moimId") Long moimId,
+            @Param("type") Post.PostType type,
+            Pageable pageable);
+    
+    /**
+     * 모임 ID와 검색어로 게시글 목록 행 검색 (정렬은 Pageable 로 지정)
      */
-    @Query("SELECT p FROM Post p WHERE p.moim.id = :moimId " +
-           "AND (p.title LIKE %:search% OR p.content LIKE %:search%) " +
-           "ORDER BY p.isPinned DESC, p.createdAt DESC")
-    Page<Post> findByMoimIdAndSearchKeyword(
+    @Query(value = LIST_ROW_SELECT + "WHERE p.moim.id = :moimId " +
+                   "AND (p.title LIKE %:search% OR p.content LIKE %:search%)",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.moim.id = :moimId " +
+                        "AND (p.title LIKE %:search% OR p.content LIKE %:search%)")
+    Page<PostListRow> findPostListRowsBySearchKeyword(
             @Param("moimId") Long moimId, 
             @Param("search") String search, 
             Pageable pageable);
     
     /**
-     * 모임 ID와 게시글 타입과 검색어로 게시글 검색
+     * 모임 ID와 게시글 타입과 검색어로 게시글 목록 행 검색 (정렬은 Pageable 로 지정)
      */
-    @Query("SELECT p FROM Post p WHERE p.moim.id = :moimId " +
-           "AND p.type = :type " +
-           "AND (p.title LIKE %:search% OR p.content LIKE %:search%) " +
-           "ORDER BY p.isPinned DESC, p.createdAt DESC")
-    Page<Post> findByMoimIdAndTypeAndSearchKeyword(
+    @Query(value = LIST_ROW_SELECT + "WHERE p.moim.id = :moimId " +
+                   "AND p.type = :type " +
+                   "AND (p.title LIKE %:search% OR p.content LIKE %:search%)",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.moim.id = :moimId " +
+                        "AND p.type = :type " +
+                        "AND (p.title LIKE %:search% OR p.content LIKE %:search%)")
+    Page<PostListRow> findPostListRowsByTypeAndSearchKeyword(
             @Param("moimId") Long moimId, 
             @Param("type") Post.PostType type, 
             @Param("search") String search, 
@@ -86,6 +119,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
     void incrementViewCount(@Param("postId") Long postId);
     
+    /**
+     * 여러 게시글의 조회수를 같은 값만큼 증가 (조회수 일괄 반영용)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :postIds")
+    int addViewCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+    
+    /**
+     * 게시글 좋아요 수 증감 (행을 읽지 않고 현재 값 기준으로 갱신, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId AND p.likeCount + :delta >= 0")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+    
+    /**
+     * 게시글 댓글 수 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId AND p.commentCount + :delta >= 0")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    
+    /**
+     * 게시글이 해당 모임에 속하는지 확인
+     */
+    boolean existsByIdAndMoimId(Long id, Long moimId);
+    
+    /**
+     * 게시글 좋아요 수 조회
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+    
+    /**
+     * 게시글 상세 조회 (작성자와 이미지를 함께 조회, 이미지는 표시 순서대로)
+     */
+    @Query("SELECT DISTINCT p FROM Post p JOIN FETCH p.author LEFT JOIN FETCH p.images WHERE p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+    
+    /**
+     * 게시글 카운터 조회 (조회수, 좋아요 수, 댓글 수 - 캐시된 상세 응답 보정용)
+     */
+    @Query("SELECT p.viewCount, p.likeCount, p.commentCount FROM Post p WHERE p.id = :postId")
+    List<Object[]> findCountersById(@Param("postId") Long postId);
+    
     /**
      * 모임 ID로 인기 게시글 조회 (좋아요 순)
      */
@@ -97,4 +174,58 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p WHERE p.moim.id = :moimId ORDER BY p.title ASC")
     Page<Post> findPostsByMoimIdOrderByTitle(@Param("moimId") Long moimId, Pageable pageable);
+    
+    /**
+     * 특정 시점 이후 모임별 게시글 수 집계 (모임 ID, 게시글 수)
+     */
+    @Query("SELECT p.moim.id, COUNT(p) FROM Post p WHERE p.createdAt >= :since GROUP BY p.moim.id")
+    List<Object[]> countPostsGroupByMoimSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 검색 색인용 게시글 (ID, 제목, 본문) 조회 - ID 순 keyset 배치
+     */
+    @Query("SELECT p.id, p.title, p.content FROM Post p WHERE p.moim.id = :moimId AND p.id > :afterId ORDER BY p.id ASC")
+    List<Object[]> findSearchDocumentsByMoimId(@Param("moimId") Long moimId, @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 검색어 부분 일치 게시글을 작성자와 함께 조회 - ID 내림차순 keyset (검색 색인을 쓸 수 없을 때 대체 검색용)
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.moim.id = :moimId AND p.id < :beforeId " +
+           "AND (p.title LIKE %:search% OR p.content LIKE %:search%) ORDER BY p.id DESC")
+    List<Post> findWithAuthorBySearchKeyword(@Param("moimId") Long moimId,
+                                             @Param("search") String search,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+    
+    /**
+     * 게시글 ID 목록으로 작성자와 함께 조회
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id IN :postIds")
+    List<Post> findAllWithAuthorByIdIn(@Param("postIds") Collection<Long> postIds);
+    
+    /**
+     * 모임 고정 게시글 목록 행 조회 (최신순, 타입이 없으면 전체 타입)
+     */
+    @Query(LIST_ROW_SELECT +
+           "WHERE p.moim.id = :moimId AND p.isPinned = true " +
+           "AND (:type IS NULL OR p.type = :type) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListRow> findPinnedPostsByMoimId(@Param("moimId") Long moimId, @Param("type") Post.PostType type);
+    
+    /**
+     * 모임 게시글 피드 목록 행 커서 조회 (고정 게시글 제외, createdAt, id 기준 keyset)
+     * 커서가 없으면(cursorCreatedAt = null) 첫 페이지, 타입이 없으면 전체 타입을 조회한다.
+     */
+    @Query(LIST_ROW_SELECT +
+           "WHERE p.moim.id = :moimId AND p.isPinned = false " +
+           "AND (:type IS NULL OR p.type = :type) " +
+           "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR " +
+           " (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListRow> findPostFeedByCursor(
+            @Param("moimId") Long moimId,
+            @Param("type") Post.PostType type,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package com.moimlog.moimlog_backend.repository;
+
+import com.moimlog.moimlog_backend.entity.ScheduleException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반복 일정 예외 레포지토리 인터페이스
+ * 반복 일정의 회차별 취소/변경 관련 데이터베이스 작업을 담당
+ */
+@Repository
+public interface ScheduleExceptionRepository extends JpaRepository<ScheduleException, Long> {
+    
+    /**
+     * 일정 ID와 발생 일시로 예외 조회
+     */
+    Optional<ScheduleException> findByScheduleIdAndOccurrenceDate(Long scheduleId, LocalDateTime occurrenceDate);
+    
+    /**
+     * 조회 구간에 해당하는 예외 목록 조회
+     * (원래 발생 일시가 구간 안인 회차 + 다른 날짜에서 구간 안으로 옮겨진 회차)
+     */
+    @Query("SELECT e FROM ScheduleException e WHERE e.schedule.id IN :scheduleIds " +
+           "AND ((e.occurrenceDate BETWEEN :startDate AND :endDate) " +
+           "OR (e.startDate BETWEEN :startDate AND :endDate))")
+    List<ScheduleException> findByScheduleIdsAndWindow(
+            @Param("scheduleIds") Collection<Long> scheduleIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+}
@@ -1,11 +1,16 @@
 package com.moimlog.moimlog_backend.repository;
 
 import com.moimlog.moimlog_backend.entity.ScheduleParticipant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +26,34 @@ public interface ScheduleParticipantRepository extends JpaRepository<SchedulePar
      */
     Optional<ScheduleParticipant> findByScheduleIdAndUserId(Long scheduleId, Long userId);
     
+    /**
+     * 참가자 추가 (unique(schedule_id, user_id) 기준, 이미 있으면 무시)
+     * @return 추가된 행 수 (0이면 같은 사용자의 다른 요청이 먼저 추가함)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO schedule_participants (schedule_id, user_id, status, created_at, updated_at) " +
+                   "VALUES (:scheduleId, :userId, :status, NOW(), NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId, @Param("status") String status);
+    
+    /**
+     * 참가 상태 변경 (현재 상태가 예상한 상태일 때만, 동시에 들어온 변경 요청이 자리 수를 두 번 증감하지 않도록)
+     * @return 변경된 행 수 (0이면 다른 요청이 먼저 상태를 바꿈)
+     */
+    @Modifying
+    @Query("UPDATE ScheduleParticipant p SET p.status = :newStatus, p.updatedAt = :now " +
+           "WHERE p.id = :participantId AND p.status = :currentStatus")
+    int updateStatusIfCurrent(@Param("participantId") Long participantId,
+                              @Param("currentStatus") ScheduleParticipant.Status currentStatus,
+                              @Param("newStatus") ScheduleParticipant.Status newStatus,
+                              @Param("now") LocalDateTime now);
+    
+    /**
+     * 가장 먼저 대기한 참가자 조회 (대기 전환 시각 → ID 순)
+     */
+    Optional<ScheduleParticipant> findFirstByScheduleIdAndStatusOrderByUpdatedAtAscIdAsc(
+            Long scheduleId, ScheduleParticipant.Status status);
+    
     /**
      * 일정 ID로 참가자 목록 조회
      */
@@ -41,6 +74,50 @@ public interface ScheduleParticipantRepository extends JpaRepository<SchedulePar
      */
     long countByScheduleIdAndStatus(Long scheduleId, ScheduleParticipant.Status status);
     
+    /**
+     * 일정별/참가 상태별 참가자 수 집계 (일정 ID, 상태, 참가자 수)
+     */
+    @Query("SELECT p.schedule.id, p.status, COUNT(p) FROM ScheduleParticipant p " +
+           "WHERE p.schedule.id IN :scheduleIds GROUP BY p.schedule.id, p.status")
+    List<Object[]> countGroupByScheduleIdAndStatus(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    /**
+     * 사용자의 일정별 참가 상태 조회 (일정 ID, 상태)
+     */
+    @Query("SELECT p.schedule.id, p.status FROM ScheduleParticipant p " +
+           "WHERE p.user.id = :userId AND p.schedule.id IN :scheduleIds")
+    List<Object[]> findStatusesByUserIdAndScheduleIds(@Param("userId") Long userId,
+                                                      @Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    /**
+     * 일정별 먼저 참석 응답한 N명의 참가자 ID 조회 (참석자 미리보기용)
+     */
+    @Query(value = "SELECT ranked.id FROM (" +
+                   "  SELECT sp.id, ROW_NUMBER() OVER (PARTITION BY sp.schedule_id ORDER BY sp.created_at, sp.id) AS rn " +
+                   "  FROM schedule_participants sp WHERE sp.schedule_id IN (:scheduleIds) AND sp.status = 'ATTENDING'" +
+                   ") ranked WHERE ranked.rn <= :limit",
+           nativeQuery = true)
+    List<Long> findFirstAttendingIdsByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds,
+                                                  @Param("limit") int limit);
+    
+    /**
+     * 참가자 ID 목록으로 사용자와 함께 조회
+     */
+    @Query("SELECT p FROM ScheduleParticipant p JOIN FETCH p.user WHERE p.id IN :ids ORDER BY p.createdAt ASC, p.id ASC")
+    List<ScheduleParticipant> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 일정 참가자 목록 페이지 조회 (사용자 함께 조회, 참가 상태 선택)
+     */
+    @Query(value = "SELECT p FROM ScheduleParticipant p JOIN FETCH p.user " +
+                   "WHERE p.schedule.id = :scheduleId AND (:status IS NULL OR p.status = :status) " +
+                   "ORDER BY p.createdAt ASC, p.id ASC",
+           countQuery = "SELECT COUNT(p) FROM ScheduleParticipant p " +
+                        "WHERE p.schedule.id = :scheduleId AND (:status IS NULL OR p.status = :status)")
+    Page<ScheduleParticipant> findPageWithUserByScheduleId(@Param("scheduleId") Long scheduleId,
+                                                          @Param("status") ScheduleParticipant.Status status,
+                                                          Pageable pageable);
+    
     /**
      * 사용자 ID로 참석하는 일정 수 조회
      */
@@ -1,9 +1,12 @@
 package com.moimlog.moimlog_backend.repository;
 
+import com.moimlog.moimlog_backend.entity.MoimMember;
 import com.moimlog.moimlog_backend.entity.Schedule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,13 +22,15 @@ import java.util.List;
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     
     /**
-     * 모임 ID로 일정 목록 조회 (페이지네이션)
+     * 모임 ID로 일정 목록 조회 (페이지네이션, 작성자 함께 조회)
      */
+    @EntityGraph(attributePaths = "createdBy")
     Page<Schedule> findByMoimIdOrderByStartDateAsc(Long moimId, Pageable pageable);
     
     /**
-     * 모임 ID와 일정 타입으로 일정 목록 조회
+     * 모임 ID와 일정 타입으로 일정 목록 조회 (작성자 함께 조회)
      */
+    @EntityGraph(attributePaths = "createdBy")
     Page<Schedule> findByMoimIdAndTypeOrderByStartDateAsc(Long moimId, Schedule.ScheduleType type, Pageable pageable);
     
     /**
@@ -52,6 +57,52 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
     
+    /**
+     * 모임 ID와 날짜 범위로 반복하지 않는 일정 목록 조회 (일정 타입 선택)
+     */
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.createdBy WHERE s.moim.id = :moimId " +
+           "AND s.isRecurring = false " +
+           "AND (:type IS NULL OR s.type = :type) " +
+           "AND s.startDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.startDate ASC")
+    List<Schedule> findSingleSchedulesByMoimIdAndDateRange(
+            @Param("moimId") Long moimId,
+            @Param("type") Schedule.ScheduleType type,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 다가오는 반복하지 않는 일정 커서(keyset) 조회 (시작 일시 → ID 순, 일정 타입 선택)
+     * 첫 페이지는 cursorId 없이 cursorStartDate(현재 시각) 이후 일정을 조회
+     */
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.createdBy WHERE s.moim.id = :moimId " +
+           "AND s.isRecurring = false " +
+           "AND (:type IS NULL OR s.type = :type) " +
+           "AND (s.startDate > :cursorStartDate " +
+           "OR (s.startDate = :cursorStartDate AND (:cursorId IS NULL OR s.id > :cursorId))) " +
+           "ORDER BY s.startDate ASC, s.id ASC")
+    List<Schedule> findUpcomingSingleSchedulesByCursor(
+            @Param("moimId") Long moimId,
+            @Param("type") Schedule.ScheduleType type,
+            @Param("cursorStartDate") LocalDateTime cursorStartDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+    
+    /**
+     * 조회 구간 끝 이전에 시작했고 구간 시작 전에 끝나지 않은 반복 일정 목록 조회 (구간 안의 회차 전개 대상, 일정 타입 선택)
+     */
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.createdBy WHERE s.moim.id = :moimId " +
+           "AND s.isRecurring = true " +
+           "AND (:type IS NULL OR s.type = :type) " +
+           "AND s.startDate <= :endDate " +
+           "AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :startDate) " +
+           "ORDER BY s.startDate ASC")
+    List<Schedule> findRecurringSchedulesByMoimIdStartedBefore(
+            @Param("moimId") Long moimId,
+            @Param("type") Schedule.ScheduleType type,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+    
     /**
      * 모임 ID로 진행 중인 일정 조회
      */
@@ -83,6 +134,61 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("moimId") Long moimId,
             @Param("now") LocalDateTime now);
     
+    /**
+     * 사용자가 참여 중인 모든 모임의 다가오는 반복하지 않는 일정 커서(keyset) 조회 (시작 일시 → ID 순)
+     * 모임 멤버 테이블과 조인해 한 번에 조회하며, 첫 페이지는 cursorId 없이 cursorStartDate(현재 시각) 이후 일정을 조회
+     */
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.moim m JOIN FETCH s.createdBy " +
+           "JOIN MoimMember mm ON mm.moim = m AND mm.user.id = :userId AND mm.status = :memberStatus " +
+           "WHERE s.isRecurring = false " +
+           "AND (s.startDate > :cursorStartDate " +
+           "OR (s.startDate = :cursorStartDate AND (:cursorId IS NULL OR s.id > :cursorId))) " +
+           "ORDER BY s.startDate ASC, s.id ASC")
+    List<Schedule> findUpcomingSingleSchedulesForMember(
+            @Param("userId") Long userId,
+            @Param("memberStatus") MoimMember.Status memberStatus,
+            @Param("cursorStartDate") LocalDateTime cursorStartDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+    
+    /**
+     * 사용자가 참여 중인 모든 모임에서 기준 일시 이전에 시작했고 구간 시작 전에 끝나지 않은 반복 일정 목록 조회 (회차 전개 대상)
+     */
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.moim m JOIN FETCH s.createdBy " +
+           "JOIN MoimMember mm ON mm.moim = m AND mm.user.id = :userId AND mm.status = :memberStatus " +
+           "WHERE s.isRecurring = true " +
+           "AND s.startDate <= :endDate " +
+           "AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :startDate) " +
+           "ORDER BY s.startDate ASC")
+    List<Schedule> findRecurringSchedulesForMemberStartedBefore(
+            @Param("userId") Long userId,
+            @Param("memberStatus") MoimMember.Status memberStatus,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 참석 자리 확보 (정원이 없거나 남은 자리가 있을 때만 참석 인원 1 증가)
+     * 여러 요청이 동시에 들어와도 행 잠금 아래에서 조건을 다시 확인하므로 정원을 넘지 않는다.
+     * @return 확보한 자리 수 (0이면 정원 마감)
+     */
+    @Modifying
+    @Query("UPDATE Schedule s SET s.attendingCount = s.attendingCount + 1 WHERE s.id = :scheduleId " +
+           "AND (s.maxAttendees IS NULL OR s.maxAttendees = 0 OR s.attendingCount < s.maxAttendees)")
+    int claimSeat(@Param("scheduleId") Long scheduleId);
+    
+    /**
+     * 참석 자리 반납 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Schedule s SET s.attendingCount = s.attendingCount - 1 WHERE s.id = :scheduleId AND s.attendingCount > 0")
+    int releaseSeat(@Param("scheduleId") Long scheduleId);
+    
+    /**
+     * 일정 참석 인원 조회 (자리 확보/반납 후 현재 값 확인용)
+     */
+    @Query("SELECT s.attendingCount FROM Schedule s WHERE s.id = :scheduleId")
+    Integer findAttendingCountById(@Param("scheduleId") Long scheduleId);
+    
     /**
      * 모임 ID로 일정 수 조회
      */
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +43,18 @@ public interface UserFavoriteRepository extends JpaRepository<UserFavorite, Long
      */
     boolean existsByUserIdAndMoimId(Long userId, Long moimId);
     
+    /**
+     * 여러 모임 중 사용자가 즐겨찾기한 모임 ID 일괄 조회 (목록 화면용)
+     */
+    @Query("SELECT uf.moim.id FROM UserFavorite uf WHERE uf.user.id = :userId AND uf.moim.id IN :moimIds")
+    List<Long> findFavoriteMoimIds(@Param("userId") Long userId, @Param("moimIds") Collection<Long> moimIds);
+    
+    /**
+     * 모임별 즐겨찾기 수 집계 (모임 ID, 즐겨찾기 수)
+     */
+    @Query("SELECT uf.moim.id, COUNT(uf) FROM UserFavorite uf GROUP BY uf.moim.id")
+    List<Object[]> countFavoritesGroupByMoim();
+    
     /**
      * 사용자 ID로 즐겨찾기 수 조회
      */
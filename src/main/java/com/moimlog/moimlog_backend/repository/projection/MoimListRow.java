@@ -0,0 +1,42 @@
+package com.moimlog.moimlog_backend.repository.projection;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록 한 행 조회용 프로젝션
+ * 모임 조회 모델(moim_summary)에서 목록에 필요한 컬럼만 담는다.
+ * (엔티티를 읽은 뒤 지연 로딩으로 카테고리/생성자를 행마다 조회하지 않도록)
+ * 생성자 인자 순서는 MoimSummaryRepository 의 SELECT new 구문과 일치해야 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class MoimListRow {
+    
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Long categoryId;
+    private final String categoryName;
+    private final String categoryLabel;
+    private final String categoryColor;
+    private final String tags;
+    private final String thumbnail;
+    private final Integer maxMembers;
+    private final Integer currentMembers;
+    private final Boolean isPrivate;
+    private final Boolean isActive;
+    private final Moim.OnlineType onlineType;
+    private final String location;
+    private final String locationDetail;
+    private final Double latitude;
+    private final Double longitude;
+    private final String creatorNickname;
+    private final String creatorName;
+    private final String creatorProfileImage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
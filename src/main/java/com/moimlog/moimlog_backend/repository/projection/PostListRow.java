@@ -0,0 +1,36 @@
+package com.moimlog.moimlog_backend.repository.projection;
+
+import com.moimlog.moimlog_backend.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 행 조회용 프로젝션
+ * 본문(TEXT)은 미리보기 길이 + 1자까지만 잘라 읽고, 작성자 이름/프로필 이미지는 같은 쿼리에서 조인한다.
+ * (목록마다 본문 전체를 읽고 작성자를 행마다 지연 로딩하지 않도록)
+ * 생성자 인자 순서는 PostRepository 의 SELECT new 구문과 일치해야 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostListRow {
+    
+    // 목록 본문 미리보기 길이 (이보다 길면 말줄임표를 붙임)
+    public static final int PREVIEW_LENGTH = 100;
+    
+    private final Long id;
+    private final String title;
+    private final String contentHead;  // 본문 앞부분 (최대 PREVIEW_LENGTH + 1자)
+    private final Post.PostType type;
+    private final Boolean isPinned;
+    private final Boolean isAnonymous;
+    private final Integer viewCount;
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Long authorId;
+    private final String authorName;
+    private final String authorProfileImage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,187 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.CommentPageResponse;
+import com.moimlog.moimlog_backend.dto.response.PostListResponse;
+import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import com.moimlog.moimlog_backend.entity.Comment;
+import com.moimlog.moimlog_backend.repository.CommentLikeRepository;
+import com.moimlog.moimlog_backend.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 댓글 트리 조회
+ * 댓글마다 작성자/답글을 지연 로딩하지 않고, 작성자를 함께 읽은 댓글을 부모 ID 기준으로 메모리에서 조립한다.
+ * - 전체 트리: 게시글의 모든 댓글을 한 번에 조회 (댓글이 적은 게시글)
+ * - 페이지: 최상위 댓글(또는 특정 댓글의 답글) 한 페이지 + 각 댓글의 답글 수와 처음 몇 개의 답글 미리보기
+ * 조회한 모든 댓글의 현재 사용자 좋아요 여부(likedByMe)는 IN 쿼리 한 번으로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeLoader {
+    
+    // 댓글마다 함께 내려주는 답글 미리보기 수
+    public static final int REPLY_PREVIEW_SIZE = 3;
+    
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    
+    /**
+     * 게시글의 전체 댓글 트리 조회 (쿼리 1회)
+     * @return 최상위 댓글 목록 (작성 순, 답글은 replies 에 중첩)
+     */
+    public List<PostResponse.CommentResponse> loadTree(Long postId, Long userId) {
+        Map<Long, PostResponse.CommentResponse> nodes = new LinkedHashMap<>();
+        for (Comment comment : commentRepository.findAllWithAuthorByPostId(postId)) {
+            nodes.put(comment.getId(), convertToCommentResponse(comment));
+        }
+        
+        List<PostResponse.CommentResponse> roots = new ArrayList<>();
+        for (PostResponse.CommentResponse node : nodes.values()) {
+            PostResponse.CommentResponse parent = node.getParentId() != null ? nodes.get(node.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(node);
+                parent.setReplyCount(parent.getReplies().size());
+            } else {
+                roots.add(node);
+            }
+        }
+        markLikedComments(nodes, userId);
+        return roots;
+    }
+    
+    /**
+     * 최상위 댓글 페이지 조회 (답글 미리보기 포함)
+     * @param page 페이지 번호 (1부터 시작)
+     */
+    public CommentPageResponse loadTopLevelPage(Long postId, Long userId, int page, int size) {
+        return createPageResponse(commentRepository.findTopLevelWithAuthorByPostId(
+                postId, PageRequest.of(page - 1, size)), userId, page, size);
+    }
+    
+    /**
+     * 답글 페이지 조회 (각 답글의 답글 미리보기 포함)
+     * @param page 페이지 번호 (1부터 시작)
+     */
+    public CommentPageResponse loadReplyPage(Long parentId, Long userId, int page, int size) {
+        return createPageResponse(commentRepository.findRepliesWithAuthorByParentId(
+                parentId, PageRequest.of(page - 1, size)), userId, page, size);
+    }
+    
+    /**
+     * 댓글 페이지 응답 구성
+     * 페이지에 포함된 댓글들의 답글 수와 답글 미리보기를 각각 한 번의 쿼리로 조회해 붙인다.
+     */
+    private CommentPageResponse createPageResponse(Page<Comment> commentPage, Long userId, int page, int size) {
+        List<PostResponse.CommentResponse> comments = commentPage.getContent().stream()
+                .map(this::convertToCommentResponse)
+                .collect(Collectors.toList());
+        Map<Long, PostResponse.CommentResponse> loaded = attachReplyPreviews(comments);
+        markLikedComments(loaded, userId);
+        
+        PostListResponse.PaginationInfo pagination = PostListResponse.PaginationInfo.builder()
+                .currentPage(page)
+                .totalPages(commentPage.getTotalPages())
+                .totalElements(commentPage.getTotalElements())
+                .size(size)
+                .hasNext(commentPage.hasNext())
+                .hasPrevious(commentPage.hasPrevious())
+                .build();
+        
+        return CommentPageResponse.builder()
+                .comments(comments)
+                .pagination(pagination)
+                .build();
+    }
+    
+    /**
+     * 댓글 목록에 답글 수와 처음 REPLY_PREVIEW_SIZE 개의 답글을 붙임
+     * (미리보기 답글의 답글 수도 함께 채우며, 그 아래 단계는 답글 페이지 API로 조회)
+     * @return 페이지와 미리보기에 포함된 모든 댓글 (댓글 ID 기준)
+     */
+    private Map<Long, PostResponse.CommentResponse> attachReplyPreviews(List<PostResponse.CommentResponse> comments) {
+        if (comments.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, PostResponse.CommentResponse> parents = new HashMap<>();
+        comments.forEach(comment -> parents.put(comment.getId(), comment));
+        
+        List<PostResponse.CommentResponse> previews = new ArrayList<>();
+        List<Long> previewIds = commentRepository.findFirstReplyIdsByParentIdIn(parents.keySet(), REPLY_PREVIEW_SIZE);
+        if (!previewIds.isEmpty()) {
+            for (Comment reply : commentRepository.findAllWithAuthorByIdIn(previewIds)) {
+                PostResponse.CommentResponse preview = convertToCommentResponse(reply);
+                parents.get(preview.getParentId()).getReplies().add(preview);
+                previews.add(preview);
+            }
+        }
+        
+        Map<Long, PostResponse.CommentResponse> countTargets = new HashMap<>(parents);
+        previews.forEach(preview -> countTargets.put(preview.getId(), preview));
+        for (Object[] row : commentRepository.countRepliesGroupByParentId(countTargets.keySet())) {
+            countTargets.get((Long) row[0]).setReplyCount(((Long) row[1]).intValue());
+        }
+        return countTargets;
+    }
+    
+    /**
+     * 댓글 트리(답글 포함)의 현재 사용자 좋아요 여부 표시 (쿼리 1회)
+     */
+    public void markLikedComments(List<PostResponse.CommentResponse> roots, Long userId) {
+        Map<Long, PostResponse.CommentResponse> comments = new HashMap<>();
+        collectComments(roots, comments);
+        markLikedComments(comments, userId);
+    }
+    
+    private void collectComments(List<PostResponse.CommentResponse> comments, Map<Long, PostResponse.CommentResponse> target) {
+        for (PostResponse.CommentResponse comment : comments) {
+            target.put(comment.getId(), comment);
+            if (comment.getReplies() != null) {
+                collectComments(comment.getReplies(), target);
+            }
+        }
+    }
+    
+    /**
+     * 조회한 댓글들의 현재 사용자 좋아요 여부 표시 (댓글 ID 기준)
+     */
+    private void markLikedComments(Map<Long, PostResponse.CommentResponse> comments, Long userId) {
+        if (userId == null || comments.isEmpty()) {
+            return;
+        }
+        Set<Long> likedIds = new HashSet<>(commentLikeRepository.findLikedCommentIds(userId, comments.keySet()));
+        comments.forEach((commentId, comment) -> comment.setLikedByMe(likedIds.contains(commentId)));
+    }
+    
+    /**
+     * 댓글 응답용 DTO 변환 (작성자는 함께 조회된 상태여야 함)
+     */
+    private PostResponse.CommentResponse convertToCommentResponse(Comment comment) {
+        return PostResponse.CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .authorId(comment.getAuthor().getId())
+                .authorName(comment.getIsAnonymous() ? "익명" : comment.getAuthor().getName())
+                .authorProfileImage(comment.getIsAnonymous() ? null : comment.getAuthor().getProfileImage())
+                .isAnonymous(comment.getIsAnonymous())
+                .likeCount(comment.getLikeCount())
+                .likedByMe(false)
+                .createdAt(comment.getCreatedAt())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .replyCount(0)
+                .replies(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moimlog.moimlog_backend.event.MoimChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 인기/최신 모임 피드 응답 캐시
+ * 두 피드는 사용자와 무관한 응답이므로 (피드, 카테고리, 개수) 별로 직렬화된 JSON 바이트와 ETag 를 보관한다.
+ * 모임 생성/참여/탈퇴 이벤트가 커밋되면 전체를 비우고, 랭킹 재계산 등 이벤트가 없는 변화는 MAX_AGE 로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiscoveryFeedCache {
+    
+    // 커밋 후 무효화 순서 (조회 모델과 인기 랭킹 갱신 이후)
+    public static final int EVICTION_ORDER = MoimSummaryProjector.LISTENER_ORDER + 1;
+    
+    private static final long MAX_AGE_MILLIS = 60 * 1000L;
+    // 카테고리 파라미터는 임의 문자열이 올 수 있으므로 보관 항목 수를 제한
+    private static final int MAX_ENTRIES = 500;
+    
+    private final ObjectMapper objectMapper;
+    
+    private final Map<String, CachedFeed> feeds = new ConcurrentHashMap<>();
+    // 무효화 세대 (응답 생성 중 무효화된 경우 오래된 응답을 저장하지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+    
+    /**
+     * 캐시된 피드 응답 조회 (없거나 만료된 경우 생성 후 저장)
+     * @param feed 피드 이름 (popular, latest)
+     * @param category 카테고리 파라미터
+     * @param limit 조회 개수
+     * @param loader 응답 본문 생성 (ApiResponse 객체)
+     */
+    public CachedFeed get(String feed, String category, int limit, Supplier<Object> loader) {
+        String key = feed + "|" + (category == null ? "" : category.trim()) + "|" + limit;
+        CachedFeed cached = feeds.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        
+        long startGeneration = generation.get();
+        CachedFeed loaded = serialize(loader.get());
+        if (generation.get() == startGeneration && (feeds.size() < MAX_ENTRIES || feeds.containsKey(key))) {
+            feeds.put(key, loaded);
+        }
+        return loaded;
+    }
+    
+    /**
+     * 모임 변경 커밋 시 전체 무효화 (조회 모델과 인기 랭킹 갱신 후 실행되어야 비운 직후 이전 값으로 다시 채워지지 않음)
+     */
+    @Order(EVICTION_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoimChanged(MoimChangedEvent event) {
+        evictAll();
+    }
+    
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        feeds.clear();
+    }
+    
+    /**
+     * 응답 객체를 JSON 바이트로 직렬화하고 ETag 계산
+     */
+    private CachedFeed serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+            return new CachedFeed(bytes, etag, System.currentTimeMillis());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+    
+    /**
+     * 직렬화된 피드 응답 (JSON 바이트, ETag)
+     */
+    @Getter
+    public static class CachedFeed {
+        private final byte[] body;
+        private final String etag;
+        private final long createdAt;
+        
+        private CachedFeed(byte[] body, String etag, long createdAt) {
+            this.body = body;
+            this.etag = etag;
+            this.createdAt = createdAt;
+        }
+        
+        /**
+         * If-None-Match 헤더 값과 ETag 일치 여부 (여러 값, 약한 비교 W/ 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > MAX_AGE_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.MoimBoardCounter;
+import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.repository.MoimBoardCounterRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모임 게시판 카운터 (moim_board_counters)
+ * 게시글/댓글 작성과 같은 트랜잭션에서 모임 전체와 작성자의 카운터 행을 증가시키므로,
+ * 멤버 목록/모임 헤더/게시판 탭의 게시글·댓글 수는 COUNT 쿼리 없이 행 몇 개만 읽는다.
+ * 게시글/댓글 삭제 경로가 생기면 연쇄 삭제되는 답글/댓글 수만큼 함께 차감해야 한다.
+ * 카운터 도입 전 데이터는 database.md 의 일회성 이관 SQL 로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MoimBoardCounters {
+    
+    private final MoimBoardCounterRepository moimBoardCounterRepository;
+    
+    /**
+     * 게시글 작성 반영 (호출한 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPostCreated(Long moimId, Long authorId, Post.PostType type) {
+        moimBoardCounterRepository.addPostCount(moimId, authorId, type.name(), 1);
+    }
+    
+    /**
+     * 댓글 작성 반영 (호출한 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCommentCreated(Long moimId, Long authorId) {
+        moimBoardCounterRepository.addCommentCount(moimId, authorId, 1);
+    }
+    
+    /**
+     * 모임 게시판 통계 (전체/타입별 게시글 수, 전체 댓글 수)
+     */
+    @Transactional(readOnly = true)
+    public BoardStats getBoardStats(Long moimId) {
+        Map<String, Integer> postCountsByType = new LinkedHashMap<>();
+        for (Post.PostType type : Post.PostType.values()) {
+            postCountsByType.put(type.name(), 0);
+        }
+        
+        int totalPosts = 0;
+        int totalComments = 0;
+        for (MoimBoardCounter counter : moimBoardCounterRepository.findByMoimIdAndUserId(moimId, MoimBoardCounter.MOIM_TOTAL)) {
+            if (MoimBoardCounter.ALL_TYPES.equals(counter.getPostType())) {
+                totalPosts = counter.getPostCount();
+                totalComments = counter.getCommentCount();
+            } else {
+                postCountsByType.put(counter.getPostType(), counter.getPostCount());
+            }
+        }
+        return new BoardStats(totalPosts, totalComments, postCountsByType);
+    }
+    
+    /**
+     * 모임 게시글 수 (타입이 없으면 전체)
+     */
+    @Transactional(readOnly = true)
+    public long getPostCount(Long moimId, Post.PostType type) {
+        BoardStats stats = getBoardStats(moimId);
+        return type == null ? stats.getTotalPosts() : stats.getPostCountsByType().get(type.name());
+    }
+    
+    /**
+     * 멤버별 게시글/댓글 수 일괄 조회 (카운터 행이 없는 멤버는 결과에 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MoimBoardCounter> getMemberCounts(Long moimId, Collection<Long> userIds) {
+        Map<Long, MoimBoardCounter> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        for (MoimBoardCounter counter : moimBoardCounterRepository.findMemberTotals(moimId, userIds)) {
+            counts.put(counter.getUserId(), counter);
+        }
+        return counts;
+    }
+    
+    /**
+     * 모임 게시판 통계
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoardStats {
+        private final int totalPosts;
+        private final int totalComments;
+        private final Map<String, Integer> postCountsByType;
+    }
+}
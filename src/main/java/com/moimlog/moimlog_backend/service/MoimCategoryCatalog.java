@@ -0,0 +1,129 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.MoimCategory;
+import com.moimlog.moimlog_backend.event.MoimChangedEvent;
+import com.moimlog.moimlog_backend.repository.MoimCategoryRepository;
+import com.moimlog.moimlog_backend.repository.MoimRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모임 카테고리 목록 캐시 (카테고리별 활성 모임 수 포함)
+ * 카테고리 목록은 모임 목록 조회마다 필터 정보로 함께 내려가므로 메모리에 보관하고,
+ * 모임 생성/수정 이벤트가 커밋된 뒤 무효화한다. 누락된 무효화에 대비해 일정 시간이 지나면 다시 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoimCategoryCatalog {
+    
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+    
+    private final MoimCategoryRepository moimCategoryRepository;
+    private final MoimRepository moimRepository;
+    
+    private volatile Snapshot snapshot;
+    // 무효화 세대 (조회 중 무효화된 경우 오래된 모임 수를 저장하지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+    
+    /**
+     * 활성 카테고리 목록 조회 (모임 수 포함, 읽기 전용)
+     */
+    public List<Map<String, Object>> getCategories() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired()) {
+            current = reload();
+        }
+        return current.categories;
+    }
+    
+    /**
+     * 모임 생성 커밋 시 무효화 (커밋 전에 비우면 동시 조회가 이전 모임 수를 다시 적재할 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoimChanged(MoimChangedEvent event) {
+        if (event.getType() == MoimChangedEvent.Type.CREATED) {
+            evict();
+        }
+    }
+    
+    /**
+     * 캐시 무효화 (다음 조회 시 다시 로딩)
+     */
+    public void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+    
+    /**
+     * 카테고리 목록과 카테고리별 활성 모임 수를 조회해 캐시에 적재
+     * 모임 수는 카테고리마다 COUNT 하지 않고 GROUP BY 한 번으로 집계한다.
+     * 조회 도중 무효화되었다면 결과는 이번 요청에만 사용하고 캐시에는 저장하지 않는다.
+     */
+    private synchronized Snapshot reload() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        
+        long startGeneration = generation.get();
+        Map<Long, Long> moimCounts = new HashMap<>();
+        for (Object[] row : moimRepository.countActiveMoimsGroupByCategory()) {
+            moimCounts.put((Long) row[0], (Long) row[1]);
+        }
+        
+        List<Map<String, Object>> categories = moimCategoryRepository.findActiveCategoriesWithMoimCount().stream()
+                .map(category -> convertToCategoryResponse(category, moimCounts.getOrDefault(category.getId(), 0L)))
+                .toList();
+        
+        current = new Snapshot(categories, System.currentTimeMillis());
+        if (generation.get() == startGeneration) {
+            snapshot = current;
+        }
+        log.debug("모임 카테고리 캐시 갱신: categories={}", categories.size());
+        return current;
+    }
+    
+    /**
+     * 카테고리 응답용 DTO 변환
+     */
+    private Map<String, Object> convertToCategoryResponse(MoimCategory category, Long moimCount) {
+        Map<String, Object> response = new HashMap<>();
+        
+        response.put("id", category.getId());
+        response.put("name", category.getName());
+        response.put("label", category.getLabel());
+        response.put("description", category.getDescription());
+        response.put("color", category.getColor());
+        response.put("isActive", category.getIsActive());
+        response.put("moimCount", moimCount);
+        
+        return Collections.unmodifiableMap(response);
+    }
+    
+    /**
+     * 캐시된 카테고리 목록과 적재 시각
+     */
+    private static class Snapshot {
+        private final List<Map<String, Object>> categories;
+        private final long loadedAt;
+        
+        private Snapshot(List<Map<String, Object>> categories, long loadedAt) {
+            this.categories = categories;
+            this.loadedAt = loadedAt;
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > MAX_AGE_MILLIS;
+        }
+    }
+}
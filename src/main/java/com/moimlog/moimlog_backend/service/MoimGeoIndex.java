@@ -0,0 +1,158 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.repository.MoimRepository;
+import com.moimlog.moimlog_backend.util.GeoUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모임 위치 격자 색인
+ * 위도/경도를 일정 크기(약 5.5km)의 격자 칸으로 나누어 칸별 모임 ID를 보관한다.
+ * 반경 검색 시 반경을 덮는 칸들만 확인한 뒤 실제 거리로 걸러 거리순으로 정렬한다.
+ * 오프라인/하이브리드 모임 중 좌표가 있는 활성 모임만 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoimGeoIndex {
+    
+    // 격자 한 칸의 크기 (도)
+    private static final double CELL_SIZE_DEGREES = 0.05;
+    private static final long CELL_ROW_FACTOR = 100_000L;
+    
+    private final MoimRepository moimRepository;
+    
+    // 격자 칸 → 모임 ID 목록
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    // 모임 ID → 좌표 (위도, 경도)
+    private final Map<Long, double[]> points = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * 애플리케이션 기동 후 좌표가 있는 활성 모임 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        cells.clear();
+        points.clear();
+        
+        for (Object[] row : moimRepository.findActiveMoimCoordinates()) {
+            put((Long) row[0], (Double) row[1], (Double) row[2]);
+        }
+        
+        ready = true;
+        log.info("모임 위치 색인 완료: moims={}, cells={}, elapsed={}ms",
+                points.size(), cells.size(), System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * 색인 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 모임 위치 색인 (온라인 모임이거나 좌표가 없으면 색인에서 제외)
+     */
+    public void index(Moim moim) {
+        remove(moim.getId());
+        if (!Boolean.TRUE.equals(moim.getIsActive())
+                || moim.getOnlineType() == Moim.OnlineType.ONLINE
+                || !GeoUtil.isValidCoordinate(moim.getLatitude(), moim.getLongitude())) {
+            return;
+        }
+        put(moim.getId(), moim.getLatitude(), moim.getLongitude());
+    }
+    
+    /**
+     * 색인에서 모임 제거
+     */
+    public void remove(Long moimId) {
+        double[] point = points.remove(moimId);
+        if (point == null) {
+            return;
+        }
+        cells.computeIfPresent(cellKey(point[0], point[1]), (key, moimIds) -> {
+            moimIds.remove(moimId);
+            return moimIds.isEmpty() ? null : moimIds;
+        });
+    }
+    
+    /**
+     * 반경 내 모임을 거리순으로 조회
+     * @param radiusKm 검색 반경 (km)
+     */
+    public List<NearbyMoim> findWithin(double latitude, double longitude, double radiusKm) {
+        double latDelta = GeoUtil.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtil.longitudeDelta(latitude, radiusKm);
+        
+        long minRow = cellIndex(latitude - latDelta);
+        long maxRow = cellIndex(latitude + latDelta);
+        long minCol = cellIndex(longitude - lngDelta);
+        long maxCol = cellIndex(longitude + lngDelta);
+        
+        List<NearbyMoim> result = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Set<Long> moimIds = cells.get(row * CELL_ROW_FACTOR + col);
+                if (moimIds == null) {
+                    continue;
+                }
+                for (Long moimId : moimIds) {
+                    double[] point = points.get(moimId);
+                    if (point == null) {
+                        continue;
+                    }
+                    double distance = GeoUtil.distanceKm(latitude, longitude, point[0], point[1]);
+                    if (distance <= radiusKm) {
+                        result.add(new NearbyMoim(moimId, distance));
+                    }
+                }
+            }
+        }
+        
+        result.sort(Comparator.comparingDouble(NearbyMoim::getDistanceKm)
+                .thenComparing(NearbyMoim::getMoimId, Comparator.reverseOrder()));
+        return result;
+    }
+    
+    private void put(Long moimId, double latitude, double longitude) {
+        points.put(moimId, new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(latitude, longitude), key -> ConcurrentHashMap.newKeySet()).add(moimId);
+    }
+    
+    private long cellKey(double latitude, double longitude) {
+        return cellIndex(latitude) * CELL_ROW_FACTOR + cellIndex(longitude);
+    }
+    
+    private long cellIndex(double degrees) {
+        // 음수 좌표도 양수 칸 번호가 되도록 180도 이동
+        return (long) Math.floor((degrees + 180.0) / CELL_SIZE_DEGREES);
+    }
+    
+    /**
+     * 반경 검색 결과 (모임 ID, 거리)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class NearbyMoim {
+        private final Long moimId;
+        private final double distanceKm;
+    }
+}
@@ -7,9 +7,11 @@ import com.moimlog.moimlog_backend.dto.response.JoinRequestDetailResponse;
 import com.moimlog.moimlog_backend.dto.response.JoinRequestResponse;
 import com.moimlog.moimlog_backend.dto.response.JoinRequestStatsResponse;
 import com.moimlog.moimlog_backend.entity.*;
+import com.moimlog.moimlog_backend.event.MoimChangedEvent;
 import com.moimlog.moimlog_backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +36,8 @@ public class MoimJoinRequestService {
     private final MoimRepository moimRepository;
     private final UserRepository userRepository;
     private final MoimMemberRepository moimMemberRepository;
+    private final PopularMoimRanking popularMoimRanking;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 모임 참여신청 생성
@@ -75,6 +79,8 @@ public class MoimJoinRequestService {
             // 모임 현재 멤버 수 증가
             moim.setCurrentMembers(moim.getCurrentMembers() + 1);
             moimRepository.save(moim);
+            popularMoimRanking.onMemberJoined(moimId);
+            eventPublisher.publishEvent(new MoimChangedEvent(moimId, MoimChangedEvent.Type.MEMBER_JOINED));
             
             log.info("공개 모임 자동 참여 완료: moimId={}, userId={}", moimId, userId);
             return null;
@@ -190,6 +196,8 @@ public class MoimJoinRequestService {
         // 모임 현재 멤버 수 증가
         moim.setCurrentMembers(moim.getCurrentMembers() + 1);
         moimRepository.save(moim);
+        popularMoimRanking.onMemberJoined(moim.getId());
+        eventPublisher.publishEvent(new MoimChangedEvent(moim.getId(), MoimChangedEvent.Type.MEMBER_JOINED));
         
         log.info("모임 참여신청 승인 완료: requestId={}", requestId);
         
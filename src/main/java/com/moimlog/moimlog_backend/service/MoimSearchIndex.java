@@ -0,0 +1,185 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.repository.MoimRepository;
+import com.moimlog.moimlog_backend.util.KoreanNgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모임 검색용 인메모리 역색인
+ * 제목/설명/태그를 n-gram 토큰으로 색인하고, 검색 시 관련도 순으로 정렬된 모임 ID 목록을 반환한다.
+ * 기동 시 활성 모임 전체로 색인을 만들고, 이후에는 모임 생성/수정 시 해당 모임만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoimSearchIndex {
+    
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    
+    private final MoimRepository moimRepository;
+    
+    // 토큰 → (모임 ID → 가중 빈도)
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+    // 모임 ID → 색인된 토큰 (재색인/삭제 시 기존 항목 제거용)
+    private final Map<Long, Set<String>> documentTokens = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * 애플리케이션 기동 후 활성 모임 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        postings.clear();
+        documentTokens.clear();
+        
+        int page = 0;
+        Page<Moim> batch;
+        do {
+            batch = moimRepository.findByIsActiveTrue(
+                    PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+            batch.forEach(this::index);
+        } while (batch.hasNext());
+        
+        ready = true;
+        log.info("모임 검색 색인 완료: moims={}, tokens={}, elapsed={}ms",
+                documentTokens.size(), postings.size(), System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * 색인 사용 가능 여부 (기동 직후 색인 전에는 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 색인으로 검색할 수 있는지 여부
+     * 색인 준비 전이거나 2-gram 보다 짧은 단어가 포함된 검색어는 DB 검색으로 대체한다.
+     */
+    public boolean supports(String query) {
+        return ready && KoreanNgramTokenizer.isIndexable(query);
+    }
+    
+    /**
+     * 모임 색인 (이미 색인된 경우 기존 항목을 교체)
+     */
+    public void index(Moim moim) {
+        remove(moim.getId());
+        if (!Boolean.TRUE.equals(moim.getIsActive())) {
+            return;
+        }
+        
+        Map<String, Float> frequencies = new HashMap<>();
+        addTokens(frequencies, moim.getTitle(), TITLE_WEIGHT);
+        addTokens(frequencies, moim.getDescription(), DESCRIPTION_WEIGHT);
+        for (String tag : moim.getTagsAsList()) {
+            addTokens(frequencies, tag, TAG_WEIGHT);
+        }
+        
+        frequencies.forEach((token, weight) -> postings.compute(token, (key, documents) -> {
+            Map<Long, Float> target = documents != null ? documents : new ConcurrentHashMap<>();
+            target.put(moim.getId(), weight);
+            return target;
+        }));
+        documentTokens.put(moim.getId(), Set.copyOf(frequencies.keySet()));
+    }
+    
+    /**
+     * 색인에서 모임 제거
+     */
+    public void remove(Long moimId) {
+        Set<String> tokens = documentTokens.remove(moimId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (key, documents) -> {
+                documents.remove(moimId);
+                return documents.isEmpty() ? null : documents;
+            });
+        }
+    }
+    
+    /**
+     * 검색어의 모든 토큰을 포함하는 모임 ID 전체를 관련도 순으로 반환 (필터를 적용할 후보 목록)
+     */
+    public List<Long> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 검색어의 모든 토큰을 포함하는 모임 ID를 관련도 순으로 반환
+     * @param query 검색어
+     * @param maxResults 최대 결과 수
+     */
+    public List<Long> search(String query, int maxResults) {
+        Set<String> queryTokens = KoreanNgramTokenizer.tokenizeQuery(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        
+        // 문서 수가 적은 토큰부터 교집합을 구해 후보를 빠르게 줄임
+        List<Map<Long, Float>> tokenPostings = new ArrayList<>();
+        for (String token : queryTokens) {
+            Map<Long, Float> documents = postings.get(token);
+            if (documents == null || documents.isEmpty()) {
+                return List.of();
+            }
+            tokenPostings.add(documents);
+        }
+        tokenPostings.sort(Comparator.comparingInt(Map::size));
+        
+        int totalDocuments = Math.max(documentTokens.size(), 1);
+        Map<Long, Double> scores = new HashMap<>();
+        tokenPostings.get(0).forEach((moimId, weight) -> scores.put(moimId, 0.0));
+        
+        for (Map<Long, Float> documents : tokenPostings) {
+            double idf = Math.log(1.0 + (double) totalDocuments / documents.size());
+            scores.entrySet().removeIf(entry -> !documents.containsKey(entry.getKey()));
+            scores.replaceAll((moimId, score) -> {
+                Float weight = documents.get(moimId);
+                return weight == null ? score : score + weight * idf;
+            });
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(maxResults)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+    
+    /**
+     * 필드 텍스트의 토큰을 가중치와 함께 누적
+     */
+    private void addTokens(Map<String, Float> frequencies, String text, float weight) {
+        for (String token : KoreanNgramTokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+    }
+}
@@ -2,19 +2,38 @@ package com.moimlog.moimlog_backend.service;
 
 import com.moimlog.moimlog_backend.dto.request.CreateMoimRequest;
 import com.moimlog.moimlog_backend.dto.response.CreateMoimResponse;
+import com.moimlog.moimlog_backend.dto.response.MoimListItemResponse;
 import com.moimlog.moimlog_backend.entity.*;
+import com.moimlog.moimlog_backend.event.MoimChangedEvent;
 import com.moimlog.moimlog_backend.repository.*;
+import com.moimlog.moimlog_backend.repository.projection.MoimListRow;
+import com.moimlog.moimlog_backend.util.CursorUtil;
+import com.moimlog.moimlog_backend.util.GeoUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,6 +54,21 @@ public class MoimService {
     private final UserRepository userRepository;
     private final UserFavoriteRepository userFavoriteRepository;
     private final S3Service s3Service;
+    private final MoimSearchIndex moimSearchIndex;
+    private final MoimCategoryCatalog moimCategoryCatalog;
+    private final PopularMoimRanking popularMoimRanking;
+    private final MoimTagRepository moimTagRepository;
+    private final MoimTagIndex moimTagIndex;
+    private final MoimGeoIndex moimGeoIndex;
+    private final MoimSummaryRepository moimSummaryRepository;
+    private final MoimSummaryProjector moimSummaryProjector;
+    private final MoimBoardCounters moimBoardCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 필터를 통과한 검색 결과의 최대 수
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    // 검색 후보에 필터 조건을 확인할 때 한 번에 보내는 모임 ID 수
+    private static final int SEARCH_FILTER_BATCH_SIZE = 1000;
     
     /**
      * 모임 생성
@@ -90,6 +124,8 @@ public class MoimService {
                     request.getCleanedLocationDetail(),
                     user
             );
+            moim.setLatitude(request.getLatitude());
+            moim.setLongitude(request.getLongitude());
             
             // 모임 저장
             Moim savedMoim = moimRepository.save(moim);
@@ -103,6 +139,20 @@ public class MoimService {
             MoimSettings settings = MoimSettings.createDefaultSettings(savedMoim);
             moimSettingsRepository.save(settings);
             
+            // 모임 태그 저장 (태그 필터/자동완성용)
+            List<String> tags = createMoimTags(savedMoim, request.getCleanedTags());
+            
+            // 랭킹/조회 모델/카테고리별 모임 수 캐시는 커밋 후 생성 이벤트로 반영
+            popularMoimRanking.onMoimCreated(savedMoim);
+            eventPublisher.publishEvent(new MoimChangedEvent(savedMoim.getId(), MoimChangedEvent.Type.CREATED));
+            
+            // 검색/태그/위치 색인 반영 (롤백된 모임이 색인에 남지 않도록 커밋 후, 조회 모델 갱신 다음에 반영)
+            afterCommit(() -> {
+                moimSearchIndex.index(savedMoim);
+                moimTagIndex.index(savedMoim.getId(), tags);
+                moimGeoIndex.index(savedMoim);
+            });
+            
             log.info("모임 생성 완료: moimId={}, title={}", savedMoim.getId(), savedMoim.getTitle());
             
             // 응답 생성
@@ -174,6 +224,21 @@ public class MoimService {
         }
     }
     
+    /**
+     * 모임 조회 모델 조회 (상세 화면용)
+     * 조회 모델 행이 아직 없으면(갱신 실패 등) 원본 기준으로 다시 계산한 뒤 읽는다.
+     * 다시 계산한 행을 새 스냅샷으로 읽을 수 있도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MoimSummary getMoimSummary(Long moimId) {
+        return moimSummaryRepository.findById(moimId)
+                .or(() -> {
+                    moimSummaryProjector.refresh(moimId);
+                    return moimSummaryRepository.findById(moimId);
+                })
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 모임입니다."));
+    }
+    
     /**
      * 모임 ID로 모임 조회
      */
@@ -285,6 +350,8 @@ public class MoimService {
         // 모임 현재 멤버 수 증가
         moim.setCurrentMembers(moim.getCurrentMembers() + 1);
         moimRepository.save(moim);
+        popularMoimRanking.onMemberJoined(moimId);
+        eventPublisher.publishEvent(new MoimChangedEvent(moimId, MoimChangedEvent.Type.MEMBER_JOINED));
         
         log.info("모임 참여 성공: moimId={}, userId={}", moimId, userId);
         
@@ -311,6 +378,8 @@ public class MoimService {
         // 모임 현재 멤버 수 감소
         moim.setCurrentMembers(moim.getCurrentMembers() - 1);
         moimRepository.save(moim);
+        popularMoimRanking.onMemberLeft(moimId);
+        eventPublisher.publishEvent(new MoimChangedEvent(moimId, MoimChangedEvent.Type.MEMBER_LEFT));
         
         log.info("모임 탈퇴 성공: moimId={}, userId={}", moimId, userId);
     }
@@ -326,14 +395,21 @@ public class MoimService {
         // 모임 멤버 목록 조회
         List<MoimMember> memberList = moimMemberRepository.findByMoimIdOrderByRoleAscJoinedAtAsc(moimId);
         
+        // 멤버별 게시글/댓글 수 (게시판 카운터 일괄 조회)
+        Map<Long, MoimBoardCounter> memberCounts = moimBoardCounters.getMemberCounts(moimId,
+                memberList.stream().map(member -> member.getUser().getId()).collect(Collectors.toList()));
+        
         // 멤버 정보 변환
         List<Map<String, Object>> memberResponses = memberList.stream()
-                .map(this::convertToMemberResponse)
+                .map(member -> convertToMemberResponse(member, memberCounts.get(member.getUser().getId())))
                 .collect(Collectors.toList());
         
         // 통계 정보 생성
+        MoimBoardCounters.BoardStats boardStats = moimBoardCounters.getBoardStats(moimId);
         Map<String, Object> statistics = new HashMap<>();
         statistics.put("totalMembers", memberList.size());
+        statistics.put("totalPosts", boardStats.getTotalPosts());
+        statistics.put("totalComments", boardStats.getTotalComments());
         statistics.put("adminCount", (int) memberList.stream().filter(m -> m.getRole() == MoimMember.Role.ADMIN).count());
         statistics.put("moderatorCount", (int) memberList.stream().filter(m -> m.getRole() == MoimMember.Role.MODERATOR).count());
         statistics.put("memberCount", (int) memberList.stream().filter(m -> m.getRole() == MoimMember.Role.MEMBER).count());
@@ -347,8 +423,9 @@ public class MoimService {
     
     /**
      * 멤버 정보를 응답 DTO로 변환
+     * @param counts 멤버의 게시판 카운터 (작성한 글/댓글이 없으면 null)
      */
-    private Map<String, Object> convertToMemberResponse(MoimMember member) {
+    private Map<String, Object> convertToMemberResponse(MoimMember member, MoimBoardCounter counts) {
         Map<String, Object> response = new HashMap<>();
         User user = member.getUser();
         
@@ -363,9 +440,8 @@ public class MoimService {
         response.put("userEmail", user.getEmail());
         response.put("userProfileImage", user.getProfileImage());
         
-        // 게시글 수와 댓글 수는 추후 구현 (PostService 연동 필요)
-        response.put("postCount", 0);
-        response.put("commentCount", 0);
+        response.put("postCount", counts != null ? counts.getPostCount() : 0);
+        response.put("commentCount", counts != null ? counts.getCommentCount() : 0);
         
         return response;
     }
@@ -392,7 +468,7 @@ public class MoimService {
      */
     public Map<String, Object> getMoimList(Long userId, int page, int limit, String category, 
                                           String onlineType, String location, String search, 
-                                          String sortBy, Integer minMembers, Integer maxMembers, 
+                                          String tag, String sortBy, Integer minMembers, Integer maxMembers, 
                                           Boolean isPrivate) {
         
         // 페이지네이션 설정
@@ -409,45 +485,208 @@ public class MoimService {
             }
         }
         
-        // 모임 목록 조회
-        Page<Moim> moimPage = moimRepository.findMoimsWithFilters(
-                categoryId, onlineType, location, search, minMembers, maxMembers, isPrivate, pageable);
+        String tagFilter = normalizeTagFilter(tag);
+        Moim.OnlineType onlineTypeFilter = parseOnlineTypeFilter(onlineType);
         
-        // 사용자별 정보 추가 (멤버 여부, 즐겨찾기 여부)
-        List<Map<String, Object>> moimResponses = moimPage.getContent().stream()
-                .map(moim -> convertToMoimListResponse(moim, userId))
+        // 모임 목록 조회 (검색어가 있으면 검색 색인의 관련도 순, 색인 준비 전이나 한 글자 검색어는 DB 검색)
+        Page<MoimListRow> moimPage;
+        if (search != null && !search.trim().isEmpty() && moimSearchIndex.supports(search)) {
+            moimPage = searchMoims(search, tagFilter, categoryId, onlineTypeFilter, location,
+                    minMembers, maxMembers, isPrivate, pageable);
+        } else {
+            moimPage = moimSummaryRepository.findMoimListRowsWithFilters(
+                    categoryId, onlineTypeFilter, location, search, minMembers, maxMembers, isPrivate, tagFilter, pageable);
+        }
+        
+        // 사용자별 정보 추가 (멤버 여부, 즐겨찾기 여부) - 페이지 단위 일괄 조회
+        UserMoimFlags flags = loadUserMoimFlags(userId, moimPage.getContent());
+        List<MoimListItemResponse> moimResponses = moimPage.getContent().stream()
+                .map(row -> convertToMoimListResponse(row, flags))
                 .collect(Collectors.toList());
         
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
         response.put("moims", moimResponses);
         response.put("pagination", createPaginationInfo(moimPage));
-        response.put("filters", createFiltersInfo(category, onlineType, location, search, minMembers, maxMembers, isPrivate));
+        response.put("filters", createFiltersInfo(category, onlineType, location, search, tag, minMembers, maxMembers, isPrivate));
+        
+        return response;
+    }
+    
+    /**
+     * 전체 모임 목록 커서 조회 (무한 스크롤용, latest/popular 정렬만 지원)
+     * OFFSET 대신 마지막 항목의 정렬 키 이후를 조회하므로 페이지 깊이와 무관하게 비용이 일정하고,
+     * 전체 개수 COUNT 쿼리는 includeTotal 을 요청한 경우에만 실행한다.
+     * @param cursor 이전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getMoimListByCursor(Long userId, String cursor, int limit, String category,
+                                                   String onlineType, String location, String search,
+                                                   String tag, String sortBy, Integer minMembers, Integer maxMembers,
+                                                   Boolean isPrivate, boolean includeTotal) {
+        if (search != null && !search.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어가 있는 경우 커서 페이지네이션을 사용할 수 없습니다.");
+        }
+        
+        Long categoryId = parseCategoryId(category);
+        String tagFilter = normalizeTagFilter(tag);
+        Moim.OnlineType onlineTypeFilter = parseOnlineTypeFilter(onlineType);
+        MoimCursorSlice slice = findMoimsByCursor(sortBy, cursor, limit,
+                categoryId, onlineTypeFilter, location, minMembers, maxMembers, isPrivate, tagFilter);
+        
+        UserMoimFlags flags = loadUserMoimFlags(userId, slice.getMoims());
+        List<MoimListItemResponse> moimResponses = slice.getMoims().stream()
+                .map(row -> convertToMoimListResponse(row, flags))
+                .collect(Collectors.toList());
+        
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("limit", limit);
+        pagination.put("nextCursor", slice.getNextCursor());
+        pagination.put("hasNext", slice.isHasNext());
+        if (includeTotal) {
+            pagination.put("totalCount", moimSummaryRepository.countMoimsWithFilters(
+                    categoryId, onlineTypeFilter, location, minMembers, maxMembers, isPrivate, tagFilter));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("moims", moimResponses);
+        response.put("pagination", pagination);
+        response.put("filters", createFiltersInfo(category, onlineType, location, search, tag, minMembers, maxMembers, isPrivate));
         
         return response;
     }
     
+    /**
+     * 주변 모임 조회 (반경 내 오프라인/하이브리드 모임을 거리순으로)
+     * 위치 색인이 준비되기 전에는 위도/경도 범위 조회 후 실제 거리로 거른다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getNearbyMoims(Long userId, double latitude, double longitude,
+                                              double radiusKm, int page, int limit) {
+        if (!GeoUtil.isValidCoordinate(latitude, longitude)) {
+            throw new IllegalArgumentException("올바른 위치 좌표가 아닙니다.");
+        }
+        
+        List<MoimGeoIndex.NearbyMoim> nearbyMoims = moimGeoIndex.isReady()
+                ? moimGeoIndex.findWithin(latitude, longitude, radiusKm)
+                : findNearbyMoimsFromDatabase(latitude, longitude, radiusKm);
+        
+        // 요청한 페이지의 모임만 조회해 거리순 유지
+        int from = Math.min((page - 1) * limit, nearbyMoims.size());
+        int to = Math.min(from + limit, nearbyMoims.size());
+        List<MoimGeoIndex.NearbyMoim> pageItems = nearbyMoims.subList(from, to);
+        
+        List<MoimListRow> pageRows = findMoimListRowsInOrder(pageItems.stream()
+                .map(MoimGeoIndex.NearbyMoim::getMoimId)
+                .collect(Collectors.toList()));
+        Map<Long, Double> distances = new HashMap<>();
+        pageItems.forEach(item -> distances.put(item.getMoimId(), item.getDistanceKm()));
+        
+        UserMoimFlags flags = loadUserMoimFlags(userId, pageRows);
+        List<MoimListItemResponse> moimResponses = new ArrayList<>();
+        for (MoimListRow row : pageRows) {
+            MoimListItemResponse moimResponse = convertToMoimListResponse(row, flags);
+            moimResponse.setDistanceKm(Math.round(distances.get(row.getId()) * 100) / 100.0);
+            moimResponses.add(moimResponse);
+        }
+        
+        Map<String, Object> center = new HashMap<>();
+        center.put("latitude", latitude);
+        center.put("longitude", longitude);
+        center.put("radiusKm", radiusKm);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("moims", moimResponses);
+        response.put("pagination", createPaginationInfo(
+                new PageImpl<>(pageRows, PageRequest.of(page - 1, limit), nearbyMoims.size())));
+        response.put("center", center);
+        
+        return response;
+    }
+    
+    /**
+     * DB 좌표 범위 조회로 주변 모임 검색 (위치 색인 준비 전 대체 경로)
+     */
+    private List<MoimGeoIndex.NearbyMoim> findNearbyMoimsFromDatabase(double latitude, double longitude, double radiusKm) {
+        double latDelta = GeoUtil.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtil.longitudeDelta(latitude, radiusKm);
+        
+        List<MoimGeoIndex.NearbyMoim> result = new ArrayList<>();
+        for (Object[] row : moimRepository.findMoimCoordinatesWithin(
+                latitude - latDelta, latitude + latDelta, longitude - lngDelta, longitude + lngDelta,
+                Moim.OnlineType.ONLINE)) {
+            double distance = GeoUtil.distanceKm(latitude, longitude, (Double) row[1], (Double) row[2]);
+            if (distance <= radiusKm) {
+                result.add(new MoimGeoIndex.NearbyMoim((Long) row[0], distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(MoimGeoIndex.NearbyMoim::getDistanceKm));
+        return result;
+    }
+    
+    /**
+     * 검색 색인을 이용한 모임 검색
+     * 색인에서 관련도 순 모임 ID 전체를 얻고, 필터 조건은 관련도 순으로 나눠 ID 기준으로 DB에서 확인한 뒤
+     * 요청한 페이지의 모임만 한 번의 쿼리로 조회한다. 태그 필터는 태그 색인으로 먼저 거른다.
+     * 결과 상한(MAX_SEARCH_RESULTS)은 필터를 통과한 모임에만 적용한다.
+     */
+    private Page<MoimListRow> searchMoims(String search, String tag, Long categoryId, Moim.OnlineType onlineType, String location,
+                                   Integer minMembers, Integer maxMembers, Boolean isPrivate,
+                                   Pageable pageable) {
+        List<Long> rankedIds = moimSearchIndex.search(search);
+        if (tag != null && moimTagIndex.isReady()) {
+            Set<Long> taggedIds = moimTagIndex.findMoimIds(tag);
+            rankedIds = rankedIds.stream()
+                    .filter(taggedIds::contains)
+                    .toList();
+            tag = null;
+        }
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        List<Long> orderedIds = new ArrayList<>();
+        for (int start = 0; start < rankedIds.size() && orderedIds.size() < MAX_SEARCH_RESULTS;
+             start += SEARCH_FILTER_BATCH_SIZE) {
+            List<Long> candidates = rankedIds.subList(start, Math.min(start + SEARCH_FILTER_BATCH_SIZE, rankedIds.size()));
+            Set<Long> matchedIds = new HashSet<>(moimSummaryRepository.findFilteredMoimIds(
+                    candidates, categoryId, onlineType, location, minMembers, maxMembers, isPrivate, tag));
+            for (Long moimId : candidates) {
+                if (matchedIds.contains(moimId) && orderedIds.size() < MAX_SEARCH_RESULTS) {
+                    orderedIds.add(moimId);
+                }
+            }
+        }
+        
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderedIds.size());
+        }
+        
+        return new PageImpl<>(findMoimListRowsInOrder(pageIds), pageable, orderedIds.size());
+    }
+    
     /**
      * 인기 모임 목록 조회
+     * 랭킹이 준비된 경우 메모리의 상위 K개에서 읽고, 준비 전이거나 K개를 넘는 요청은 DB 정렬 조회로 대체한다.
      */
     public Map<String, Object> getPopularMoims(String category, int limit) {
-        List<Moim> popularMoims;
+        Long categoryId = parseCategoryId(category);
+        List<MoimListRow> popularMoims;
         
-        if (category != null && !category.trim().isEmpty()) {
-            try {
-                Long categoryId = Long.parseLong(category);
-                popularMoims = moimRepository.findPopularMoimsByCategory(categoryId, PageRequest.of(0, limit));
-            } catch (NumberFormatException e) {
-                // 카테고리 이름으로 검색하는 경우는 별도 처리 필요
-                log.warn("카테고리 이름으로 검색하는 기능은 아직 구현되지 않았습니다: {}", category);
-                popularMoims = moimRepository.findPopularMoims(limit);
-            }
+        if (popularMoimRanking.isReady() && limit <= PopularMoimRanking.TOP_K) {
+            popularMoims = findMoimListRowsInOrder(popularMoimRanking.getTopMoimIds(categoryId, limit)).stream()
+                    .filter(row -> Boolean.TRUE.equals(row.getIsActive()))
+                    .collect(Collectors.toList());
         } else {
-            popularMoims = moimRepository.findPopularMoims(limit);
+            popularMoims = findMoimsByCursor("popular", null, limit,
+                    categoryId, null, null, null, null, null, null).getMoims();
         }
         
-        List<Map<String, Object>> moimResponses = popularMoims.stream()
-                .map(moim -> convertToMoimListResponse(moim, null))
+        List<MoimListItemResponse> moimResponses = popularMoims.stream()
+                .map(row -> convertToMoimListResponse(row, UserMoimFlags.EMPTY))
                 .collect(Collectors.toList());
         
         Map<String, Object> response = new HashMap<>();
@@ -457,51 +696,183 @@ public class MoimService {
         return response;
     }
     
+    /**
+     * 인기 모임 목록 커서 조회 (currentMembers, createdAt, id 기준)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPopularMoims(String category, int limit, String cursor) {
+        return createCursorFeedResponse(findMoimsByCursor("popular", cursor, limit,
+                parseCategoryId(category), null, null, null, null, null, null));
+    }
+    
     /**
      * 최신 모임 목록 조회
      */
     public Map<String, Object> getLatestMoims(String category, int limit) {
-        List<Moim> latestMoims;
+        List<MoimListRow> latestMoims = findMoimsByCursor("latest", null, limit,
+                parseCategoryId(category), null, null, null, null, null, null).getMoims();
         
-        if (category != null && !category.trim().isEmpty()) {
-            try {
-                Long categoryId = Long.parseLong(category);
-                latestMoims = moimRepository.findLatestMoimsByCategory(categoryId, PageRequest.of(0, limit));
-            } catch (NumberFormatException e) {
-                // 카테고리 이름으로 검색하는 기능은 별도 처리 필요
-                log.warn("카테고리 이름으로 검색하는 기능은 아직 구현되지 않았습니다: {}", category);
-                latestMoims = moimRepository.findLatestMoims(limit);
+        List<MoimListItemResponse> moimResponses = latestMoims.stream()
+                .map(row -> convertToMoimListResponse(row, UserMoimFlags.EMPTY))
+                .collect(Collectors.toList());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("moims", moimResponses);
+        response.put("totalCount", moimResponses.size());
+        
+        return response;
+    }
+    
+    /**
+     * 최신 모임 목록 커서 조회 (createdAt, id 기준)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getLatestMoims(String category, int limit, String cursor) {
+        return createCursorFeedResponse(findMoimsByCursor("latest", cursor, limit,
+                parseCategoryId(category), null, null, null, null, null, null));
+    }
+    
+    /**
+     * 커서 기반 모임 조회 공통 처리
+     * limit + 1 개를 조회해 다음 페이지 존재 여부를 판단하고, 마지막 항목의 정렬 키로 다음 커서를 만든다.
+     */
+    private MoimCursorSlice findMoimsByCursor(String sortBy, String cursor, int limit, Long categoryId,
+                                              Moim.OnlineType onlineType, String location, Integer minMembers,
+                                              Integer maxMembers, Boolean isPrivate, String tag) {
+        String sortKey = sortBy == null ? "latest" : sortBy.toLowerCase();
+        boolean firstPage = cursor == null || cursor.isEmpty();
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        
+        List<MoimListRow> moims;
+        try {
+            switch (sortKey) {
+                case "popular": {
+                    List<String> values = firstPage ? null : CursorUtil.decode(cursor, sortKey, 3);
+                    moims = moimSummaryRepository.findPopularMoimsByCursor(
+                            categoryId, onlineType, location, minMembers, maxMembers, isPrivate, tag,
+                            firstPage ? null : Integer.valueOf(values.get(0)),
+                            firstPage ? null : LocalDateTime.parse(values.get(1)),
+                            firstPage ? null : Long.valueOf(values.get(2)),
+                            pageable);
+                    break;
+                }
+                case "latest": {
+                    List<String> values = firstPage ? null : CursorUtil.decode(cursor, sortKey, 2);
+                    moims = moimSummaryRepository.findLatestMoimsByCursor(
+                            categoryId, onlineType, location, minMembers, maxMembers, isPrivate, tag,
+                            firstPage ? null : LocalDateTime.parse(values.get(0)),
+                            firstPage ? null : Long.valueOf(values.get(1)),
+                            pageable);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("커서 페이지네이션은 최신순, 인기순 정렬만 지원합니다.");
             }
-        } else {
-            latestMoims = moimRepository.findLatestMoims(limit);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        
+        boolean hasNext = moims.size() > limit;
+        if (hasNext) {
+            moims = moims.subList(0, limit);
         }
         
-        List<Map<String, Object>> moimResponses = latestMoims.stream()
-                .map(moim -> convertToMoimListResponse(moim, null))
+        String nextCursor = null;
+        if (hasNext) {
+            MoimListRow last = moims.get(moims.size() - 1);
+            nextCursor = "popular".equals(sortKey)
+                    ? CursorUtil.encode(sortKey, last.getCurrentMembers(), last.getCreatedAt(), last.getId())
+                    : CursorUtil.encode(sortKey, last.getCreatedAt(), last.getId());
+        }
+        
+        return new MoimCursorSlice(moims, nextCursor, hasNext);
+    }
+    
+    /**
+     * 인기/최신 모임 커서 조회 응답 구성
+     */
+    private Map<String, Object> createCursorFeedResponse(MoimCursorSlice slice) {
+        List<MoimListItemResponse> moimResponses = slice.getMoims().stream()
+                .map(row -> convertToMoimListResponse(row, UserMoimFlags.EMPTY))
                 .collect(Collectors.toList());
         
         Map<String, Object> response = new HashMap<>();
         response.put("moims", moimResponses);
         response.put("totalCount", moimResponses.size());
+        response.put("nextCursor", slice.getNextCursor());
+        response.put("hasNext", slice.isHasNext());
         
         return response;
     }
     
     /**
-     * 모임 카테고리 목록 조회 (모임 수 포함)
+     * 태그 자동완성 (접두어 일치, 사용 모임 수가 많은 순)
      */
-    public List<Map<String, Object>> getMoimCategories() {
-        List<MoimCategory> categories = moimCategoryRepository.findActiveCategoriesWithMoimCount();
-        
-        return categories.stream()
-                .map(category -> {
-                    Map<String, Object> response = convertToCategoryResponse(category);
-                    // 각 카테고리별 모임 수 조회
-                    Long moimCount = moimRepository.countByCategoryIdAndIsActiveTrue(category.getId());
-                    response.put("moimCount", moimCount);
-                    return response;
-                })
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> autocompleteTags(String prefix, int limit) {
+        return moimTagIndex.autocomplete(prefix, limit);
+    }
+    
+    /**
+     * 모임 태그 저장 (정규화 기준 중복 제거 후 한 행에 하나씩)
+     * @return 저장된 태그 목록 (표시용 표기)
+     */
+    private List<String> createMoimTags(Moim moim, List<String> tags) {
+        Map<String, String> uniqueTags = new LinkedHashMap<>();
+        for (String tag : tags) {
+            String key = MoimTagIndex.normalize(tag);
+            if (!key.isEmpty()) {
+                uniqueTags.putIfAbsent(key, tag.trim().replaceFirst("^#+", "").trim());
+            }
+        }
+        
+        List<MoimTag> moimTags = uniqueTags.values().stream()
+                .map(tag -> MoimTag.createMoimTag(moim, tag))
                 .collect(Collectors.toList());
+        moimTagRepository.saveAll(moimTags);
+        
+        return List.copyOf(uniqueTags.values());
+    }
+    
+    /**
+     * 태그 필터 파라미터 정규화 (비어 있으면 null)
+     */
+    private String normalizeTagFilter(String tag) {
+        String normalized = MoimTagIndex.normalize(tag);
+        return normalized.isEmpty() ? null : normalized;
+    }
+    
+    /**
+     * 온라인 타입 필터 파라미터를 enum으로 변환 (비어 있으면 null)
+     */
+    private Moim.OnlineType parseOnlineTypeFilter(String onlineType) {
+        if (onlineType == null || onlineType.trim().isEmpty()) {
+            return null;
+        }
+        return convertToOnlineType(onlineType.trim());
+    }
+    
+    /**
+     * 카테고리 파라미터를 ID로 변환 (숫자가 아니면 null)
+     */
+    private Long parseCategoryId(String category) {
+        if (category == null || category.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(category);
+        } catch (NumberFormatException e) {
+            // 카테고리 이름으로 검색하는 경우는 별도 처리 필요
+            log.warn("카테고리 이름으로 검색하는 기능은 아직 구현되지 않았습니다: {}", category);
+            return null;
+        }
+    }
+    
+    /**
+     * 모임 카테고리 목록 조회 (모임 수 포함, 캐시)
+     */
+    public List<Map<String, Object>> getMoimCategories() {
+        return moimCategoryCatalog.getCategories();
     }
     
     /**
@@ -518,7 +889,7 @@ public class MoimService {
             case "name":
                 return Sort.by(Sort.Direction.ASC, "title");
             case "category":
-                return Sort.by(Sort.Direction.ASC, "category.name", "createdAt");
+                return Sort.by(Sort.Direction.ASC, "categoryName", "createdAt");
             case "location":
                 return Sort.by(Sort.Direction.ASC, "location", "createdAt");
             case "latest":
@@ -530,69 +901,87 @@ public class MoimService {
     /**
      * 모임 목록 응답용 DTO 변환
      */
-    private Map<String, Object> convertToMoimListResponse(Moim moim, Long userId) {
-        Map<String, Object> response = new HashMap<>();
+    private MoimListItemResponse convertToMoimListResponse(MoimListRow row, UserMoimFlags flags) {
+        MoimListItemResponse response = MoimListItemResponse.fromRow(
+                row, moimTagIndex.getTags(row.getId(), row.getTags()));
         
-        response.put("id", moim.getId());
-        response.put("title", moim.getTitle());
-        response.put("description", moim.getDescription());
-        response.put("categoryId", moim.getCategory() != null ? moim.getCategory().getId() : null);
-        response.put("categoryName", moim.getCategory() != null ? moim.getCategory().getName() : null);
-        response.put("categoryLabel", moim.getCategory() != null ? moim.getCategory().getLabel() : null);
-        response.put("categoryColor", moim.getCategory() != null ? moim.getCategory().getColor() : null);
-        response.put("tags", moim.getTagsAsList());
-        response.put("thumbnail", moim.getThumbnail());
-        response.put("maxMembers", moim.getMaxMembers());
-        response.put("currentMembers", moim.getCurrentMembers());
-        response.put("isPrivate", moim.getIsPrivate());
-        response.put("isActive", moim.getIsActive());
-        response.put("onlineType", moim.getOnlineType());
-        response.put("location", moim.getLocation());
-        response.put("locationDetail", moim.getLocationDetail());
-        response.put("createdBy", moim.getCreatedBy().getNickname() != null ? moim.getCreatedBy().getNickname() : moim.getCreatedBy().getName());
-        response.put("creatorName", moim.getCreatedBy().getName());
-        response.put("creatorProfileImage", moim.getCreatedBy().getProfileImage());
-        response.put("createdAt", moim.getCreatedAt());
-        response.put("updatedAt", moim.getUpdatedAt());
-        
-        // 사용자별 정보 (로그인한 경우만)
-        if (userId != null) {
-            response.put("isMember", moimMemberRepository.existsByMoimIdAndUserId(moim.getId(), userId));
-            response.put("isFavorite", userFavoriteRepository.existsByUserIdAndMoimId(userId, moim.getId()));
-            
-            // 모임 멤버인 경우 역할 정보
-            Optional<MoimMember> member = moimMemberRepository.findByMoimIdAndUserId(moim.getId(), userId);
-            response.put("userRole", member.map(MoimMember::getRole).orElse(null));
-        } else {
-            response.put("isMember", false);
-            response.put("isFavorite", false);
-            response.put("userRole", null);
-        }
+        // 사용자별 정보 (로그인하지 않은 경우 EMPTY 이므로 모두 false/null)
+        MoimMember.Role role = flags.getRoles().get(row.getId());
+        response.setIsMember(role != null);
+        response.setIsFavorite(flags.getFavoriteMoimIds().contains(row.getId()));
+        response.setUserRole(role);
         
         return response;
     }
     
     /**
-     * 카테고리 응답용 DTO 변환
+     * 모임 ID 순서대로 목록 행 조회 (검색/랭킹/주변 모임 결과의 순서 유지)
      */
-    private Map<String, Object> convertToCategoryResponse(MoimCategory category) {
-        Map<String, Object> response = new HashMap<>();
+    private List<MoimListRow> findMoimListRowsInOrder(List<Long> moimIds) {
+        if (moimIds.isEmpty()) {
+            return List.of();
+        }
         
-        response.put("id", category.getId());
-        response.put("name", category.getName());
-        response.put("label", category.getLabel());
-        response.put("description", category.getDescription());
-        response.put("color", category.getColor());
-        response.put("isActive", category.getIsActive());
+        Map<Long, MoimListRow> rowsById = new HashMap<>();
+        for (MoimListRow row : moimSummaryRepository.findMoimListRowsByIdIn(moimIds)) {
+            rowsById.put(row.getId(), row);
+        }
+        return moimIds.stream()
+                .map(rowsById::get)
+                .filter(row -> row != null)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 목록에 포함된 모임들에 대한 사용자별 멤버십/역할/즐겨찾기 정보를 일괄 조회
+     * (모임마다 개별 조회하던 것을 IN 쿼리 두 번으로 대체)
+     */
+    private UserMoimFlags loadUserMoimFlags(Long userId, List<MoimListRow> moims) {
+        if (userId == null || moims.isEmpty()) {
+            return UserMoimFlags.EMPTY;
+        }
         
-        return response;
+        List<Long> moimIds = moims.stream()
+                .map(MoimListRow::getId)
+                .collect(Collectors.toList());
+        
+        Map<Long, MoimMember.Role> roles = new HashMap<>();
+        for (MoimMember member : moimMemberRepository.findByUserIdAndMoimIdIn(userId, moimIds)) {
+            roles.put(member.getMoim().getId(), member.getRole());
+        }
+        Set<Long> favoriteMoimIds = new HashSet<>(userFavoriteRepository.findFavoriteMoimIds(userId, moimIds));
+        
+        return new UserMoimFlags(roles, favoriteMoimIds);
+    }
+    
+    /**
+     * 모임 목록 한 페이지에 대한 사용자별 정보 (모임 ID 기준)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class UserMoimFlags {
+        private static final UserMoimFlags EMPTY = new UserMoimFlags(Collections.emptyMap(), Collections.emptySet());
+        
+        private final Map<Long, MoimMember.Role> roles;
+        private final Set<Long> favoriteMoimIds;
+    }
+    
+    /**
+     * 커서 조회 결과 한 페이지 (모임 목록, 다음 커서, 다음 페이지 존재 여부)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class MoimCursorSlice {
+        private final List<MoimListRow> moims;
+        private final String nextCursor;
+        private final boolean hasNext;
     }
     
     /**
      * 필터 정보 생성
      */
     private Map<String, Object> createFiltersInfo(String category, String onlineType, String location, 
-                                                 String search, Integer minMembers, Integer maxMembers, Boolean isPrivate) {
+                                                 String search, String tag, Integer minMembers, Integer maxMembers, Boolean isPrivate) {
         Map<String, Object> filters = new HashMap<>();
         
         Map<String, Object> appliedFilters = new HashMap<>();
@@ -600,6 +989,7 @@ public class MoimService {
         if (onlineType != null) appliedFilters.put("onlineType", onlineType);
         if (location != null) appliedFilters.put("location", location);
         if (search != null) appliedFilters.put("search", search);
+        if (tag != null) appliedFilters.put("tag", tag);
         if (minMembers != null) appliedFilters.put("minMembers", minMembers);
         if (maxMembers != null) appliedFilters.put("maxMembers", maxMembers);
         if (isPrivate != null) appliedFilters.put("isPrivate", isPrivate);
@@ -612,4 +1002,20 @@ public class MoimService {
         return filters;
     }
     
+    /**
+     * 트랜잭션 커밋 후 실행 (먼저 등록된 커밋 후 작업이 끝난 뒤 실행됨)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
 }
@@ -0,0 +1,62 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.event.MoimChangedEvent;
+import com.moimlog.moimlog_backend.repository.MoimSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 조회 모델(moim_summary) 갱신
+ * 모임 변경 이벤트를 트랜잭션 커밋 후 받아 해당 모임 한 행만 원본 기준으로 다시 계산한다.
+ * 갱신이 실패해도 원래 요청은 이미 커밋된 상태이므로 로그만 남기고, 해당 모임의 다음 변경 때 다시 맞춘다.
+ * (기존 데이터 백필과 불일치 복구는 database.md 의 일회성 SQL 로 수행)
+ */
+@Component
+@Slf4j
+public class MoimSummaryProjector {
+    
+    // 모임 변경 커밋 후 리스너 실행 순서 (조회 모델 갱신이 캐시 무효화보다 먼저)
+    public static final int LISTENER_ORDER = 0;
+    
+    private final MoimSummaryRepository moimSummaryRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    
+    public MoimSummaryProjector(MoimSummaryRepository moimSummaryRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.moimSummaryRepository = moimSummaryRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 모임 변경 이벤트 처리 (커밋 후 별도 트랜잭션에서 해당 모임 행 갱신)
+     * 트랜잭션 밖에서 발행된 경우에는 즉시 처리한다.
+     * 조회 모델을 읽는 캐시가 갱신 전 행을 다시 적재하지 않도록 다른 커밋 후 리스너보다 먼저 실행한다.
+     */
+    @Order(MoimSummaryProjector.LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMoimChanged(MoimChangedEvent event) {
+        try {
+            refresh(event.getMoimId());
+        } catch (Exception e) {
+            log.error("모임 조회 모델 갱신 실패: event={}, error={}", event, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 모임 한 건의 조회 모델 행 갱신 (원본 모임이 없으면 행 삭제)
+     */
+    public void refresh(Long moimId) {
+        requiresNewTransaction.executeWithoutResult(status -> {
+            if (moimSummaryRepository.refresh(moimId) == 0) {
+                moimSummaryRepository.deleteSummary(moimId);
+            }
+        });
+    }
+}
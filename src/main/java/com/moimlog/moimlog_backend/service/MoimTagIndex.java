@@ -0,0 +1,172 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.repository.MoimTagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 모임 태그 인메모리 색인
+ * 태그(소문자 정규화) → 모임 ID 목록과 모임 ID → 태그 목록을 함께 유지한다.
+ * 태그 키는 정렬된 맵에 보관해 접두어 자동완성을 범위 조회로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MoimTagIndex {
+    
+    private final MoimTagRepository moimTagRepository;
+    
+    // 정규화된 태그 → 모임 ID 목록
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    // 정규화된 태그 → 표시용 태그 (처음 등록된 표기)
+    private final Map<String, String> displayNames = new ConcurrentHashMap<>();
+    // 모임 ID → 표시용 태그 목록 (목록 응답 직렬화용)
+    private final Map<Long, List<String>> moimTags = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * 애플리케이션 기동 후 활성 모임의 태그 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        postings.clear();
+        displayNames.clear();
+        moimTags.clear();
+        
+        Map<Long, List<String>> tagsByMoim = new HashMap<>();
+        for (Object[] row : moimTagRepository.findActiveMoimTags()) {
+            tagsByMoim.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        tagsByMoim.forEach(this::index);
+        
+        ready = true;
+        log.info("모임 태그 색인 완료: moims={}, tags={}, elapsed={}ms",
+                moimTags.size(), postings.size(), System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * 색인 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 모임 태그 색인 (이미 색인된 경우 기존 태그를 교체)
+     */
+    public void index(Long moimId, List<String> tags) {
+        remove(moimId);
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        
+        for (String tag : tags) {
+            String key = normalize(tag);
+            displayNames.putIfAbsent(key, tag);
+            postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(moimId);
+        }
+        moimTags.put(moimId, List.copyOf(tags));
+    }
+    
+    /**
+     * 색인에서 모임 제거
+     */
+    public void remove(Long moimId) {
+        List<String> tags = moimTags.remove(moimId);
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags) {
+            postings.computeIfPresent(normalize(tag), (key, moimIds) -> {
+                moimIds.remove(moimId);
+                return moimIds.isEmpty() ? null : moimIds;
+            });
+        }
+    }
+    
+    /**
+     * 모임의 태그 목록 조회 (색인 준비 전에는 JSON 컬럼 파싱으로 대체)
+     * @param tagsJson moims.tags 컬럼 값
+     */
+    public List<String> getTags(Long moimId, String tagsJson) {
+        if (ready) {
+            List<String> tags = moimTags.get(moimId);
+            return tags != null ? tags : List.of();
+        }
+        return Moim.parseTags(tagsJson);
+    }
+    
+    /**
+     * 태그가 정확히 일치하는 모임 ID 목록 조회
+     */
+    public Set<Long> findMoimIds(String tag) {
+        Set<Long> moimIds = postings.get(normalize(tag));
+        return moimIds != null ? Collections.unmodifiableSet(moimIds) : Set.of();
+    }
+    
+    /**
+     * 접두어로 태그 자동완성 (사용 모임 수가 많은 순)
+     */
+    public List<Map<String, Object>> autocomplete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        
+        if (!ready) {
+            List<Map<String, Object>> suggestions = new ArrayList<>();
+            for (Object[] row : moimTagRepository.countTagsByPrefix(prefix.trim(), PageRequest.of(0, limit))) {
+                suggestions.add(createSuggestion((String) row[0], (Long) row[1]));
+            }
+            return suggestions;
+        }
+        
+        // 접두어 범위의 태그만 훑어서 모임 수 순으로 정렬
+        return postings.subMap(key, true, key + Character.MAX_VALUE, false).entrySet().stream()
+                .sorted(Map.Entry.<String, Set<Long>>comparingByValue(
+                        (a, b) -> Integer.compare(b.size(), a.size()))
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> createSuggestion(
+                        displayNames.getOrDefault(entry.getKey(), entry.getKey()), (long) entry.getValue().size()))
+                .toList();
+    }
+    
+    /**
+     * 태그 정규화 (앞뒤 공백, 앞의 # 제거 및 소문자 변환)
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return "";
+        }
+        String normalized = tag.trim();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private Map<String, Object> createSuggestion(String tag, Long moimCount) {
+        Map<String, Object> suggestion = new HashMap<>();
+        suggestion.put("tag", tag);
+        suggestion.put("moimCount", moimCount);
+        return suggestion;
+    }
+}
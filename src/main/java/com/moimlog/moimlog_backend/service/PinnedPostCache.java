@@ -0,0 +1,81 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.PostListResponse;
+import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 모임별 고정 게시글 목록 캐시
+ * 게시글 피드 첫 페이지마다 필요한 고정 게시글은 모임당 몇 건뿐이므로 (모임, 게시글 타입) 별로 요약 DTO 목록을 보관하고,
+ * 조회수/좋아요 여부처럼 요청마다 달라지는 값은 호출하는 쪽에서 복사본에 덮어쓴다.
+ * 피드 목록 쿼리는 고정 게시글을 모두 제외하므로 고정 게시글은 개수 제한 없이 전부 보관한다.
+ * 애플리케이션에는 게시글 고정/해제 경로가 없으므로 고정 여부와 좋아요 수 등의 변화는 MAX_AGE 로 반영한다.
+ * 최근 조회 순으로 MAX_ENTRIES 개까지 유지하고 오래 조회되지 않은 항목부터 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinnedPostCache {
+    
+    private static final long MAX_AGE_MILLIS = 30 * 1000L;
+    private static final int MAX_ENTRIES = 1000;
+    
+    private final PostRepository postRepository;
+    
+    // "모임 ID|게시글 타입" → 캐시 항목 (접근 순서 유지, 오래 조회되지 않은 항목부터 제거)
+    private final Map<String, CachedPinnedPosts> pinnedPosts = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPinnedPosts> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    
+    /**
+     * 모임 고정 게시글 요약 조회 (반환 목록은 요청별로 수정해도 되는 복사본)
+     * @param type 게시글 타입 (null 이면 전체 타입)
+     */
+    public List<PostListResponse.PostSummary> get(Long moimId, Post.PostType type) {
+        String key = moimId + "|" + (type == null ? "" : type.name());
+        CachedPinnedPosts cached;
+        synchronized (pinnedPosts) {
+            cached = pinnedPosts.get(key);
+        }
+        if (cached == null || cached.isExpired()) {
+            List<PostListResponse.PostSummary> loaded = postRepository.findPinnedPostsByMoimId(moimId, type).stream()
+                    .map(PostListResponse.PostSummary::fromRow)
+                    .collect(Collectors.toList());
+            cached = new CachedPinnedPosts(loaded, System.currentTimeMillis());
+            synchronized (pinnedPosts) {
+                pinnedPosts.put(key, cached);
+            }
+        }
+        return cached.posts.stream()
+                .map(post -> post.toBuilder().build())
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 캐시된 고정 게시글 목록
+     */
+    private static class CachedPinnedPosts {
+        private final List<PostListResponse.PostSummary> posts;
+        private final long createdAt;
+        
+        private CachedPinnedPosts(List<PostListResponse.PostSummary> posts, long createdAt) {
+            this.posts = posts;
+            this.createdAt = createdAt;
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > MAX_AGE_MILLIS;
+        }
+    }
+}
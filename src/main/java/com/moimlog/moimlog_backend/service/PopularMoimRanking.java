@@ -0,0 +1,320 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.repository.MoimRepository;
+import com.moimlog.moimlog_backend.repository.PostRepository;
+import com.moimlog.moimlog_backend.repository.UserFavoriteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * 인기 모임 랭킹 (카테고리별 상위 K개를 메모리에 유지)
+ * 점수 = (멤버 수 + 즐겨찾기 수 + 최근 게시글 수의 가중합) / (경과 일수 + 2)^GRAVITY
+ * 기동 시와 주기적으로 전체를 다시 계산하고, 그 사이에는 참여/탈퇴/게시글 작성 시
+ * 해당 모임의 점수만 갱신한다. 즐겨찾기 수는 주기적 재계산에서만 반영한다.
+ * 인기 모임 조회는 정렬된 상위 K개에서 앞부분만 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopularMoimRanking {
+    
+    // 카테고리별로 유지하는 상위 모임 수 (인기 모임 조회 최대 개수)
+    public static final int TOP_K = 50;
+    // 탈퇴 등으로 순위가 내려가도 빈자리를 채울 수 있도록 여유분을 함께 보관
+    private static final int CAPACITY = TOP_K * 2;
+    
+    private static final double MEMBER_WEIGHT = 1.0;
+    private static final double FAVORITE_WEIGHT = 2.0;
+    private static final double RECENT_POST_WEIGHT = 0.5;
+    private static final double GRAVITY = 0.5;
+    private static final int ACTIVITY_WINDOW_DAYS = 14;
+    private static final long REBUILD_INTERVAL_MILLIS = 10 * 60 * 1000L;
+    
+    // 전체 카테고리 랭킹 키
+    private static final Long ALL_CATEGORIES = -1L;
+    
+    private static final Comparator<RankEntry> RANK_ORDER = Comparator
+            .comparingDouble((RankEntry entry) -> entry.score).reversed()
+            .thenComparing((RankEntry entry) -> entry.createdAt, Comparator.reverseOrder())
+            .thenComparing((RankEntry entry) -> entry.moimId, Comparator.reverseOrder());
+    
+    private final MoimRepository moimRepository;
+    private final UserFavoriteRepository userFavoriteRepository;
+    private final PostRepository postRepository;
+    
+    // 모임 ID → 점수 계산용 통계 (활성 모임 전체)
+    private volatile Map<Long, MoimStats> stats = new ConcurrentHashMap<>();
+    // 카테고리 ID → 점수 순 상위 모임
+    private volatile Map<Long, NavigableSet<RankEntry>> rankings = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    /**
+     * 애플리케이션 기동 후 랭킹 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+    
+    /**
+     * 주기적으로 전체 랭킹 재계산 (시간 감쇠 반영 및 증분 갱신 누락 보정)
+     */
+    @Scheduled(fixedDelay = REBUILD_INTERVAL_MILLIS, initialDelay = REBUILD_INTERVAL_MILLIS)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        
+        try {
+            Map<Long, MoimStats> newStats = new ConcurrentHashMap<>();
+            for (Object[] row : moimRepository.findActiveMoimRankingStats()) {
+                newStats.put((Long) row[0], new MoimStats((Long) row[1], (LocalDateTime) row[2], (Integer) row[3]));
+            }
+            for (Object[] row : userFavoriteRepository.countFavoritesGroupByMoim()) {
+                MoimStats moimStats = newStats.get((Long) row[0]);
+                if (moimStats != null) {
+                    moimStats.favorites = ((Long) row[1]).intValue();
+                }
+            }
+            for (Object[] row : postRepository.countPostsGroupByMoimSince(now.minusDays(ACTIVITY_WINDOW_DAYS))) {
+                MoimStats moimStats = newStats.get((Long) row[0]);
+                if (moimStats != null) {
+                    moimStats.recentPosts = ((Long) row[1]).intValue();
+                }
+            }
+            
+            // 카테고리별로 점수 순 정렬 후 상위 CAPACITY 개만 유지
+            Map<Long, List<RankEntry>> grouped = new HashMap<>();
+            newStats.forEach((moimId, moimStats) -> {
+                RankEntry entry = new RankEntry(moimId, moimStats.categoryId, moimStats.createdAt, score(moimStats, now));
+                moimStats.entry = entry;
+                grouped.computeIfAbsent(ALL_CATEGORIES, key -> new ArrayList<>()).add(entry);
+                if (moimStats.categoryId != null) {
+                    grouped.computeIfAbsent(moimStats.categoryId, key -> new ArrayList<>()).add(entry);
+                }
+            });
+            
+            Map<Long, NavigableSet<RankEntry>> newRankings = new ConcurrentHashMap<>();
+            grouped.forEach((categoryId, categoryEntries) -> {
+                categoryEntries.sort(RANK_ORDER);
+                NavigableSet<RankEntry> ranking = new ConcurrentSkipListSet<>(RANK_ORDER);
+                ranking.addAll(categoryEntries.subList(0, Math.min(CAPACITY, categoryEntries.size())));
+                newRankings.put(categoryId, ranking);
+            });
+            
+            synchronized (this) {
+                stats = newStats;
+                rankings = newRankings;
+                ready = true;
+            }
+            log.info("인기 모임 랭킹 계산 완료: moims={}, categories={}, elapsed={}ms",
+                    newStats.size(), newRankings.size() - 1, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("인기 모임 랭킹 계산 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 랭킹 사용 가능 여부 (계산 전에는 DB 정렬 조회로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 인기 모임 ID 목록 조회 (점수 순)
+     * @param categoryId 카테고리 ID (null 이면 전체)
+     * @param limit 조회할 모임 수 (최대 TOP_K)
+     */
+    public List<Long> getTopMoimIds(Long categoryId, int limit) {
+        NavigableSet<RankEntry> ranking = rankings.get(categoryId != null ? categoryId : ALL_CATEGORIES);
+        if (ranking == null) {
+            return List.of();
+        }
+        
+        List<Long> moimIds = new ArrayList<>(Math.min(limit, TOP_K));
+        for (RankEntry entry : ranking) {
+            if (moimIds.size() >= Math.min(limit, TOP_K)) {
+                break;
+            }
+            moimIds.add(entry.moimId);
+        }
+        return moimIds;
+    }
+    
+    /**
+     * 모임 생성 반영
+     */
+    public void onMoimCreated(Moim moim) {
+        Long categoryId = moim.getCategory() != null ? moim.getCategory().getId() : null;
+        MoimStats moimStats = new MoimStats(categoryId, moim.getCreatedAt(), moim.getCurrentMembers());
+        afterCommit(() -> {
+            synchronized (this) {
+                stats.put(moim.getId(), moimStats);
+                refresh(moim.getId(), moimStats);
+            }
+        });
+    }
+    
+    /**
+     * 멤버 참여 반영
+     */
+    public void onMemberJoined(Long moimId) {
+        afterCommit(() -> update(moimId, moimStats -> moimStats.members++));
+    }
+    
+    /**
+     * 멤버 탈퇴 반영
+     */
+    public void onMemberLeft(Long moimId) {
+        afterCommit(() -> update(moimId, moimStats -> moimStats.members = Math.max(moimStats.members - 1, 0)));
+    }
+    
+    /**
+     * 게시글 작성 반영
+     */
+    public void onPostCreated(Long moimId) {
+        afterCommit(() -> update(moimId, moimStats -> moimStats.recentPosts++));
+    }
+    
+    /**
+     * 모임 통계를 변경하고 점수를 다시 계산
+     */
+    private synchronized void update(Long moimId, Consumer<MoimStats> change) {
+        MoimStats moimStats = stats.get(moimId);
+        if (moimStats == null) {
+            return;
+        }
+        change.accept(moimStats);
+        refresh(moimId, moimStats);
+    }
+    
+    /**
+     * 모임의 랭킹 항목을 새 점수로 교체 (상위 CAPACITY 밖이면 추가하지 않음)
+     */
+    private void refresh(Long moimId, MoimStats moimStats) {
+        RankEntry previous = moimStats.entry;
+        if (previous != null) {
+            removeFromRanking(ALL_CATEGORIES, previous);
+            removeFromRanking(previous.categoryId, previous);
+        }
+        
+        RankEntry entry = new RankEntry(moimId, moimStats.categoryId, moimStats.createdAt, score(moimStats, LocalDateTime.now()));
+        moimStats.entry = entry;
+        addToRanking(ALL_CATEGORIES, entry);
+        if (moimStats.categoryId != null) {
+            addToRanking(moimStats.categoryId, entry);
+        }
+    }
+    
+    private void addToRanking(Long categoryId, RankEntry entry) {
+        NavigableSet<RankEntry> ranking = rankings.computeIfAbsent(categoryId, key -> new ConcurrentSkipListSet<>(RANK_ORDER));
+        if (ranking.size() >= CAPACITY && RANK_ORDER.compare(entry, ranking.last()) > 0) {
+            return;
+        }
+        ranking.add(entry);
+        while (ranking.size() > CAPACITY) {
+            ranking.pollLast();
+        }
+    }
+    
+    private void removeFromRanking(Long categoryId, RankEntry entry) {
+        if (categoryId == null) {
+            return;
+        }
+        NavigableSet<RankEntry> ranking = rankings.get(categoryId);
+        if (ranking != null) {
+            ranking.remove(entry);
+        }
+    }
+    
+    /**
+     * 시간 감쇠 점수 계산 (오래된 모임일수록 같은 활동량이라도 점수가 낮아짐)
+     */
+    private double score(MoimStats moimStats, LocalDateTime now) {
+        double activity = moimStats.members * MEMBER_WEIGHT
+                + moimStats.favorites * FAVORITE_WEIGHT
+                + moimStats.recentPosts * RECENT_POST_WEIGHT;
+        double ageDays = moimStats.createdAt != null
+                ? Math.max(Duration.between(moimStats.createdAt, now).toHours() / 24.0, 0.0)
+                : 0.0;
+        return activity / Math.pow(ageDays + 2.0, GRAVITY);
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 실행 (롤백된 변경이 랭킹에 반영되지 않도록)
+     * 피드 캐시 무효화보다 먼저 실행되어야 비운 직후 이전 랭킹으로 인기 피드가 다시 채워지지 않는다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return DiscoveryFeedCache.EVICTION_ORDER - 1;
+                }
+                
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * 점수 계산용 모임 통계
+     */
+    private static class MoimStats {
+        private final Long categoryId;
+        private final LocalDateTime createdAt;
+        private int members;
+        private int favorites;
+        private int recentPosts;
+        // 마지막으로 계산된 랭킹 항목 (점수 갱신 시 기존 항목 제거용)
+        private RankEntry entry;
+        
+        private MoimStats(Long categoryId, LocalDateTime createdAt, Integer members) {
+            this.categoryId = categoryId;
+            this.createdAt = createdAt;
+            this.members = members != null ? members : 0;
+        }
+    }
+    
+    /**
+     * 랭킹 항목 (점수 계산 시점의 값으로 고정)
+     */
+    private static class RankEntry {
+        private final Long moimId;
+        private final Long categoryId;
+        private final LocalDateTime createdAt;
+        private final double score;
+        
+        private RankEntry(Long moimId, Long categoryId, LocalDateTime createdAt, double score) {
+            this.moimId = moimId;
+            this.categoryId = categoryId;
+            this.createdAt = createdAt != null ? createdAt : LocalDateTime.MIN;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 응답 캐시 (게시글 ID 기준 LRU)
+ * 게시글 본문, 이미지, 댓글 트리(또는 첫 페이지)를 조립한 사용자 무관 응답을 보관하고,
+ * 조회할 때마다 복사본을 반환하므로 호출하는 쪽에서 조회수/좋아요 수/좋아요 여부를 덮어써도 된다.
+ * 댓글 작성/댓글 좋아요/수정/삭제가 커밋되면 해당 게시글만 비우고, 공지처럼 자주 읽히는 게시글이 남도록
+ * 최근 조회 순으로 MAX_ENTRIES 개까지 유지한다.
+ */
+@Component
+@Slf4j
+public class PostDetailCache {
+    
+    private static final int MAX_ENTRIES = 500;
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+    private static final long STATS_LOG_INTERVAL_MILLIS = 10 * 60 * 1000L;
+    
+    // 게시글 ID → 캐시 항목 (접근 순서 유지, 오래 조회되지 않은 게시글부터 제거)
+    private final Map<Long, CachedPostDetail> details = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedPostDetail> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+    // 무효화 세대 (응답 조립 중 무효화된 경우 오래된 응답을 저장하지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    /**
+     * 캐시된 게시글 상세 응답 조회 (없거나 만료된 경우 조립 후 저장)
+     * @param loader 사용자 무관 상세 응답 조립 (게시글이 없으면 예외)
+     * @return 요청별로 수정해도 되는 복사본
+     */
+    public PostResponse get(Long postId, Supplier<PostResponse> loader) {
+        CachedPostDetail cached;
+        synchronized (details) {
+            cached = details.get(postId);
+        }
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            return copy(cached.response);
+        }
+        
+        misses.incrementAndGet();
+        long startGeneration = generation.get();
+        PostResponse loaded = loader.get();
+        synchronized (details) {
+            if (generation.get() == startGeneration) {
+                details.put(postId, new CachedPostDetail(loaded, System.currentTimeMillis()));
+            }
+        }
+        return copy(loaded);
+    }
+    
+    /**
+     * 게시글 캐시 무효화 (트랜잭션이 있으면 커밋 후)
+     */
+    public void invalidate(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(postId);
+                }
+            });
+        } else {
+            invalidateNow(postId);
+        }
+    }
+    
+    /**
+     * 게시글 캐시 즉시 무효화 (캐시된 응답이 원본과 다른 것을 발견한 경우)
+     */
+    public void invalidateNow(Long postId) {
+        generation.incrementAndGet();
+        synchronized (details) {
+            if (details.remove(postId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * 캐시 통계 (적중/미스/제거/무효화 수, 적중률, 현재 항목 수)
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        synchronized (details) {
+            stats.put("size", details.size());
+        }
+        return stats;
+    }
+    
+    /**
+     * 주기적으로 캐시 통계 기록
+     */
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS, initialDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void logStats() {
+        log.info("게시글 상세 캐시 통계: {}", getStats());
+    }
+    
+    /**
+     * 상세 응답 복사 (댓글 트리와 목록까지 새로 만들어 캐시 원본이 요청별 수정에 영향받지 않도록)
+     */
+    private PostResponse copy(PostResponse source) {
+        PostResponse copied = source.toBuilder().build();
+        if (source.getImages() != null) {
+            copied.setImages(source.getImages().stream()
+                    .map(image -> image.toBuilder().build())
+                    .collect(Collectors.toList()));
+        }
+        if (source.getComments() != null) {
+            copied.setComments(copyComments(source.getComments()));
+        }
+        if (source.getCommentPagination() != null) {
+            copied.setCommentPagination(source.getCommentPagination().toBuilder().build());
+        }
+        return copied;
+    }
+    
+    private List<PostResponse.CommentResponse> copyComments(List<PostResponse.CommentResponse> comments) {
+        List<PostResponse.CommentResponse> copied = new ArrayList<>(comments.size());
+        for (PostResponse.CommentResponse comment : comments) {
+            PostResponse.CommentResponse commentCopy = comment.toBuilder().build();
+            if (comment.getReplies() != null) {
+                commentCopy.setReplies(copyComments(comment.getReplies()));
+            }
+            copied.add(commentCopy);
+        }
+        return copied;
+    }
+    
+    /**
+     * 캐시된 상세 응답
+     */
+    private static class CachedPostDetail {
+        private final PostResponse response;
+        private final long createdAt;
+        
+        private CachedPostDetail(PostResponse response, long createdAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > MAX_AGE_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.repository.PostRepository;
+import com.moimlog.moimlog_backend.util.KoreanNgramTokenizer;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모임별 게시글 검색용 인메모리 역색인
+ * 게시글 제목/본문을 n-gram 토큰으로 색인한다. 모임의 첫 검색 때 별도 스레드에서 해당 모임 게시글만 읽어 색인을 만들고,
+ * 색인이 준비되기 전에는 호출자가 DB 검색으로 대체한다. 이후에는 게시글 작성 시 해당 게시글만 색인한다.
+ * 게시글 수정/삭제 경로는 없으므로, DB 에서 직접 지운 게시글은 색인을 다시 만들 때까지 남고 조회 시 제외된다.
+ * 보관량은 전체 포스팅(토큰-게시글 쌍) 수로 제한하며, 넘으면 오래 검색되지 않은 모임의 색인부터 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+    
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CONTENT_WEIGHT = 1.0f;
+    // 포스팅 한 건은 정렬된 long[]/float[] 배열에서 약 12바이트 (배열 여유 공간 포함 최대 약 24바이트)
+    private static final long MAX_TOTAL_POSTINGS = 2_000_000L;
+    private static final int BUILD_BATCH_SIZE = 1000;
+    
+    private final PostRepository postRepository;
+    
+    // 모임 ID → 게시글 색인 (접근 순서 유지, 오래 검색되지 않은 모임부터 제거)
+    private final Map<Long, MoimPostIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    // 색인 하나가 전체 한도를 넘는 모임 (항상 DB 검색으로 처리)
+    private final Set<Long> oversizedMoims = ConcurrentHashMap.newKeySet();
+    // 보관 중인 전체 포스팅 수
+    private final AtomicLong totalPostings = new AtomicLong();
+    // 색인 생성 전용 스레드 (요청 스레드가 색인 생성을 기다리지 않도록)
+    private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-index-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * 모임 게시글 검색 (관련도 내림차순, 같은 점수는 최신 게시글 우선)
+     * 색인이 아직 없으면 생성을 예약하고 빈 값을 반환하므로 호출자는 DB 검색으로 대체해야 한다.
+     * 2-gram 보다 짧은 단어가 포함된 검색어도 색인으로 찾을 수 없으므로 빈 값을 반환한다.
+     * @return 검색어의 모든 토큰을 포함하는 게시글과 점수 (색인으로 처리할 수 없으면 empty)
+     */
+    public Optional<List<ScoredPost>> search(Long moimId, String query) {
+        if (!KoreanNgramTokenizer.isIndexable(query) || oversizedMoims.contains(moimId)) {
+            return Optional.empty();
+        }
+        
+        MoimPostIndex index;
+        synchronized (indexes) {
+            index = indexes.get(moimId);
+            if (index == null) {
+                MoimPostIndex created = new MoimPostIndex(moimId);
+                indexes.put(moimId, created);
+                buildExecutor.execute(() -> build(created));
+                return Optional.empty();
+            }
+        }
+        if (!index.built) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(KoreanNgramTokenizer.tokenizeQuery(query)));
+    }
+    
+    /**
+     * 게시글 작성/수정 시 색인 반영 (트랜잭션 커밋 후, 색인이 만들어진 모임만)
+     */
+    public void onPostSaved(Post post) {
+        Long moimId = post.getMoim().getId();
+        Long postId = post.getId();
+        String title = post.getTitle();
+        String content = post.getContent();
+        afterCommit(() -> {
+            MoimPostIndex index;
+            synchronized (indexes) {
+                index = indexes.get(moimId);
+            }
+            if (index != null) {
+                index.add(postId, title, content);
+                evictOverBudget(moimId);
+            }
+        });
+    }
+    
+    /**
+     * 종료 시 색인 생성 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+    }
+    
+    /**
+     * 모임 게시글 전체를 ID 순 배치로 읽어 색인 생성 (색인 생성 스레드에서 실행)
+     * 배치 조회와 반영을 같은 잠금 안에서 처리해, 생성 도중 커밋된 게시글 작성 반영과 순서가 어긋나지 않게 한다.
+     */
+    private void build(MoimPostIndex index) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            int batchSize;
+            do {
+                synchronized (index) {
+                    if (index.evicted) {
+                        return;
+                    }
+                    List<Object[]> batch = postRepository.findSearchDocumentsByMoimId(
+                            index.moimId, lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                    for (Object[] row : batch) {
+                        lastId = (Long) row[0];
+                        index.add(lastId, (String) row[1], (String) row[2]);
+                    }
+                    batchSize = batch.size();
+                }
+                if (index.postingCount > MAX_TOTAL_POSTINGS) {
+                    long postingCount = index.postingCount;
+                    oversizedMoims.add(index.moimId);
+                    discard(index);
+                    log.warn("게시글 검색 색인 한도 초과로 DB 검색 사용: moimId={}, postings={}",
+                            index.moimId, postingCount);
+                    return;
+                }
+                evictOverBudget(index.moimId);
+            } while (batchSize == BUILD_BATCH_SIZE);
+            
+            index.built = true;
+            log.info("게시글 검색 색인 생성: moimId={}, posts={}, postings={}, elapsed={}ms",
+                    index.moimId, index.documentTokens.size(), index.postingCount, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 다음 검색 때 다시 생성하도록 제거
+            discard(index);
+            log.error("게시글 검색 색인 생성 실패: moimId={}, error={}", index.moimId, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 전체 포스팅 수가 한도를 넘으면 오래 검색되지 않은 모임의 색인부터 제거 (방금 갱신한 모임은 유지)
+     */
+    private void evictOverBudget(Long keepMoimId) {
+        synchronized (indexes) {
+            Iterator<MoimPostIndex> iterator = indexes.values().iterator();
+            while (totalPostings.get() > MAX_TOTAL_POSTINGS && iterator.hasNext()) {
+                MoimPostIndex eldest = iterator.next();
+                if (eldest.moimId.equals(keepMoimId)) {
+                    continue;
+                }
+                iterator.remove();
+                eldest.evict();
+            }
+        }
+    }
+    
+    /**
+     * 색인을 목록에서 빼고 보관 중인 포스팅 해제
+     */
+    private void discard(MoimPostIndex index) {
+        synchronized (indexes) {
+            indexes.remove(index.moimId, index);
+        }
+        index.evict();
+    }
+    
+    /**
+     * 트랜잭션이 있으면 커밋 후 실행, 없으면 즉시 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    /**
+     * 검색 결과 한 건 (게시글 ID, 관련도 점수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoredPost {
+        private final Long postId;
+        private final double score;
+    }
+    
+    /**
+     * 모임 하나의 게시글 색인
+     * 색인 생성 중에도 커밋된 게시글 반영이 누락되지 않도록 빈 색인을 먼저 등록한 뒤 채우고,
+     * 읽기/쓰기는 모임 단위로 동기화한다. 제거된 색인에는 더 이상 반영하지 않는다.
+     */
+    private class MoimPostIndex {
+        private final Long moimId;
+        // 토큰 → 게시글 ID 순으로 정렬된 포스팅 목록
+        private final Map<String, Postings> postings = new HashMap<>();
+        // 게시글 ID → 색인된 토큰 (재색인 시 기존 항목 제거용)
+        private final Map<Long, String[]> documentTokens = new HashMap<>();
+        private volatile boolean built = false;
+        private boolean evicted = false;
+        private long postingCount = 0L;
+        
+        private MoimPostIndex(Long moimId) {
+            this.moimId = moimId;
+        }
+        
+        synchronized void add(Long postId, String title, String content) {
+            if (evicted) {
+                return;
+            }
+            remove(postId);
+            
+            Map<String, Float> frequencies = new HashMap<>();
+            for (String token : KoreanNgramTokenizer.tokenize(title)) {
+                frequencies.merge(token, TITLE_WEIGHT, Float::sum);
+            }
+            for (String token : KoreanNgramTokenizer.tokenize(content)) {
+                frequencies.merge(token, CONTENT_WEIGHT, Float::sum);
+            }
+            
+            frequencies.forEach((token, weight) ->
+                    postings.computeIfAbsent(token, key -> new Postings()).put(postId, weight));
+            documentTokens.put(postId, frequencies.keySet().toArray(new String[0]));
+            postingCount += frequencies.size();
+            totalPostings.addAndGet(frequencies.size());
+        }
+        
+        synchronized void remove(Long postId) {
+            String[] tokens = documentTokens.remove(postId);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                Postings documents = postings.get(token);
+                if (documents != null && documents.remove(postId)) {
+                    postingCount--;
+                    totalPostings.decrementAndGet();
+                    if (documents.size == 0) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+        
+        synchronized void evict() {
+            if (evicted) {
+                return;
+            }
+            evicted = true;
+            totalPostings.addAndGet(-postingCount);
+            postingCount = 0L;
+            postings.clear();
+            documentTokens.clear();
+        }
+        
+        synchronized List<ScoredPost> search(Set<String> queryTokens) {
+            // 문서 수가 적은 토큰부터 교집합을 구해 후보를 빠르게 줄임
+            List<Postings> tokenPostings = new ArrayList<>();
+            for (String token : queryTokens) {
+                Postings documents = postings.get(token);
+                if (documents == null || documents.size == 0) {
+                    return List.of();
+                }
+                tokenPostings.add(documents);
+            }
+            tokenPostings.sort(Comparator.comparingInt(documents -> documents.size));
+            
+            int totalDocuments = Math.max(documentTokens.size(), 1);
+            Postings smallest = tokenPostings.get(0);
+            long[] candidateIds = Arrays.copyOf(smallest.ids, smallest.size);
+            double[] scores = new double[smallest.size];
+            int candidateCount = smallest.size;
+            
+            for (Postings documents : tokenPostings) {
+                double idf = Math.log(1.0 + (double) totalDocuments / documents.size);
+                // 두 목록 모두 게시글 ID 순이므로 병합하듯 한 번씩만 훑으며 교집합을 남김
+                int kept = 0;
+                int position = 0;
+                for (int i = 0; i < candidateCount; i++) {
+                    while (position < documents.size && documents.ids[position] < candidateIds[i]) {
+                        position++;
+                    }
+                    if (position < documents.size && documents.ids[position] == candidateIds[i]) {
+                        candidateIds[kept] = candidateIds[i];
+                        scores[kept] = scores[i] + documents.weights[position] * idf;
+                        kept++;
+                    }
+                }
+                candidateCount = kept;
+                if (candidateCount == 0) {
+                    return List.of();
+                }
+            }
+            
+            List<ScoredPost> results = new ArrayList<>(candidateCount);
+            for (int i = 0; i < candidateCount; i++) {
+                results.add(new ScoredPost(candidateIds[i], scores[i]));
+            }
+            results.sort(Comparator.comparingDouble(ScoredPost::getScore).reversed()
+                    .thenComparing(ScoredPost::getPostId, Comparator.reverseOrder()));
+            return results;
+        }
+    }
+    
+    /**
+     * 토큰 하나의 포스팅 목록 (게시글 ID 오름차순으로 정렬된 원시 타입 배열)
+     * 새 게시글은 ID 가 가장 크므로 대부분 끝에 추가된다.
+     */
+    private static class Postings {
+        private long[] ids = new long[2];
+        private float[] weights = new float[2];
+        private int size = 0;
+        
+        private void put(long postId, float weight) {
+            int position = size > 0 && ids[size - 1] < postId ? -(size + 1) : Arrays.binarySearch(ids, 0, size, postId);
+            if (position >= 0) {
+                weights[position] = weight;
+                return;
+            }
+            position = -(position + 1);
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(weights, position, weights, position + 1, size - position);
+            ids[position] = postId;
+            weights[position] = weight;
+            size++;
+        }
+        
+        private boolean remove(long postId) {
+            int position = Arrays.binarySearch(ids, 0, size, postId);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(weights, position + 1, weights, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -2,10 +2,15 @@ package com.moimlog.moimlog_backend.service;
 
 import com.moimlog.moimlog_backend.dto.request.CreateCommentRequest;
 import com.moimlog.moimlog_backend.dto.request.CreatePostRequest;
+import com.moimlog.moimlog_backend.dto.response.CommentPageResponse;
 import com.moimlog.moimlog_backend.dto.response.PostListResponse;
 import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import com.moimlog.moimlog_backend.dto.response.PostSearchResponse;
 import com.moimlog.moimlog_backend.entity.*;
 import com.moimlog.moimlog_backend.repository.*;
+import com.moimlog.moimlog_backend.repository.projection.PostListRow;
+import com.moimlog.moimlog_backend.util.CursorUtil;
+import com.moimlog.moimlog_backend.util.SearchHighlighter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,9 +21,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,41 +42,67 @@ import java.util.stream.Collectors;
 public class PostService {
     
     private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
     private final CommentRepository commentRepository;
     private final PostLikeRepository postLikeRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final MoimRepository moimRepository;
     private final UserRepository userRepository;
+    private final PopularMoimRanking popularMoimRanking;
+    private final PostViewCountAggregator postViewCountAggregator;
+    private final CommentTreeLoader commentTreeLoader;
+    private final PostSearchIndex postSearchIndex;
+    private final PinnedPostCache pinnedPostCache;
+    private final MoimBoardCounters moimBoardCounters;
+    private final PostDetailCache postDetailCache;
+    
+    // 전체 댓글 트리를 한 번에 내려주는 최대 댓글 수 (넘으면 최상위 댓글 페이지 단위로 조회)
+    private static final int FULL_COMMENT_TREE_LIMIT = 200;
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int SEARCH_SNIPPET_LENGTH = 120;
+    // 게시글 검색 커서 정렬 기준 (색인 관련도순 / DB 대체 검색 최신순)
+    private static final String RELEVANCE_SEARCH_SORT_KEY = "relevance";
+    private static final String KEYWORD_SEARCH_SORT_KEY = "keyword";
     
     /**
      * 게시글 목록 조회
      */
-    public PostListResponse getPosts(Long moimId, int page, int size, String type, String search, String sort) {
+    public PostListResponse getPosts(Long moimId, Long userId, int page, int size, String type, String search, String sort) {
         // 페이지네이션 설정
         Pageable pageable = createPageable(page, size, sort);
         
-        // 게시글 조회
-        Page<Post> postPage;
+        // 게시글 조회 (본문 미리보기와 작성자 정보만 읽는 목록 행 프로젝션)
+        Page<PostListRow> postPage;
         if (type != null && !type.equals("all")) {
             Post.PostType postType = Post.PostType.valueOf(type.toUpperCase());
             if (search != null && !search.trim().isEmpty()) {
-                postPage = postRepository.findByMoimIdAndTypeAndSearchKeyword(moimId, postType, search, pageable);
+                postPage = postRepository.findPostListRowsByTypeAndSearchKeyword(moimId, postType, search, pageable);
             } else {
-                postPage = postRepository.findByMoimIdAndTypeOrderByIsPinnedDescCreatedAtDesc(moimId, postType, pageable);
+                postPage = postRepository.findPostListRowsByMoimIdAndType(moimId, postType, pageable);
             }
         } else {
             if (search != null && !search.trim().isEmpty()) {
-                postPage = postRepository.findByMoimIdAndSearchKeyword(moimId, search, pageable);
+                postPage = postRepository.findPostListRowsBySearchKeyword(moimId, search, pageable);
             } else {
-                postPage = postRepository.findByMoimIdOrderByIsPinnedDescCreatedAtDesc(moimId, pageable);
+                postPage = postRepository.findPostListRowsByMoimId(moimId, pageable);
             }
         }
         
         // DTO 변환
         List<PostListResponse.PostSummary> posts = postPage.getContent().stream()
-                .map(PostListResponse.PostSummary::fromEntity)
+                .map(PostListResponse.PostSummary::fromRow)
                 .collect(Collectors.toList());
         
+        // 아직 DB에 반영되지 않은 조회수 증가분 포함
+        posts.forEach(post -> post.setViewCount(
+                postViewCountAggregator.getViewCount(post.getId(), post.getViewCount())));
+        
+        // 현재 사용자의 좋아요 여부 (페이지 단위 IN 조회 1회)
+        Set<Long> likedPostIds = findLikedPostIds(userId, posts.stream()
+                .map(PostListResponse.PostSummary::getId)
+                .collect(Collectors.toList()));
+        posts.forEach(post -> post.setLikedByMe(likedPostIds.contains(post.getId())));
+        
         // 페이지네이션 정보 생성
         PostListResponse.PaginationInfo pagination = PostListResponse.PaginationInfo.builder()
                 .currentPage(page)
@@ -82,21 +119,136 @@ public class PostService {
                 .build();
     }
     
+    /**
+     * 게시글 피드 커서 조회 (무한 스크롤용, 최신순)
+     * 고정 게시글은 캐시된 목록으로 첫 페이지에만 내려주고, 나머지는 (createdAt, id) keyset 으로 조회하므로
+     * 페이지 깊이와 무관하게 비용이 일정하다. 전체 개수 COUNT 쿼리는 includeTotal 을 요청한 경우에만 실행한다.
+     * @param cursor 이전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getPostFeed(Long moimId, Long userId, String cursor, int size, String type,
+                                        String search, String sort, boolean includeTotal) {
+        if (search != null && !search.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어가 있는 경우 커서 페이지네이션을 사용할 수 없습니다.");
+        }
+        if (sort != null && !sort.equalsIgnoreCase("latest")) {
+            throw new IllegalArgumentException("커서 페이지네이션은 최신순 정렬만 지원합니다.");
+        }
+        
+        Post.PostType postType = null;
+        if (type != null && !type.equals("all")) {
+            try {
+                postType = Post.PostType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 게시글 타입입니다.");
+            }
+        }
+        
+        boolean firstPage = cursor == null || cursor.isEmpty();
+        List<PostListRow> feed;
+        try {
+            List<String> values = firstPage ? null : CursorUtil.decode(cursor, "latest", 2);
+            feed = postRepository.findPostFeedByCursor(moimId, postType,
+                    firstPage ? null : LocalDateTime.parse(values.get(0)),
+                    firstPage ? null : Long.valueOf(values.get(1)),
+                    PageRequest.of(0, size + 1));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        
+        boolean hasNext = feed.size() > size;
+        if (hasNext) {
+            feed = feed.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            PostListRow last = feed.get(feed.size() - 1);
+            nextCursor = CursorUtil.encode("latest", last.getCreatedAt(), last.getId());
+        }
+        
+        List<PostListResponse.PostSummary> posts = feed.stream()
+                .map(PostListResponse.PostSummary::fromRow)
+                .collect(Collectors.toList());
+        
+        // 고정 게시글 (첫 페이지에만, 타입 필터 적용 - 피드 목록은 고정 게시글을 모두 제외하므로 전부 포함)
+        List<PostListResponse.PostSummary> pinnedPosts = firstPage ? pinnedPostCache.get(moimId, postType) : List.of();
+        
+        // 조회수 증가분과 현재 사용자의 좋아요 여부 (고정 게시글 포함 IN 조회 1회)
+        List<PostListResponse.PostSummary> allPosts = new ArrayList<>(pinnedPosts);
+        allPosts.addAll(posts);
+        Set<Long> likedPostIds = findLikedPostIds(userId, allPosts.stream()
+                .map(PostListResponse.PostSummary::getId)
+                .collect(Collectors.toList()));
+        allPosts.forEach(post -> {
+            post.setViewCount(postViewCountAggregator.getViewCount(post.getId(), post.getViewCount()));
+            post.setLikedByMe(likedPostIds.contains(post.getId()));
+        });
+        
+        PostListResponse.PaginationInfo pagination = PostListResponse.PaginationInfo.builder()
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(!firstPage)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? moimBoardCounters.getPostCount(moimId, postType) : null)
+                .build();
+        
+        return PostListResponse.builder()
+                .posts(posts)
+                .pinnedPosts(pinnedPosts)
+                .pagination(pagination)
+                .build();
+    }
+    
+    /**
+     * 모임 게시판 통계 조회 (카운터 테이블 기준)
+     */
+    @Transactional(readOnly = true)
+    public MoimBoardCounters.BoardStats getBoardStats(Long moimId) {
+        return moimBoardCounters.getBoardStats(moimId);
+    }
+    
     /**
      * 게시글 상세 조회
+     * 본문/이미지/댓글은 캐시된 사용자 무관 응답을 쓰고, 조회수/좋아요 수와 좋아요 여부만 요청마다 덮어쓴다.
      */
-    public PostResponse getPostDetail(Long postId, Long moimId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+    public PostResponse getPostDetail(Long postId, Long moimId, Long userId) {
+        PostResponse response = postDetailCache.get(postId, () -> loadPostDetail(postId));
         
         // 모임 ID 검증
-        if (!post.getMoim().getId().equals(moimId)) {
+        if (!response.getMoimId().equals(moimId)) {
             throw new IllegalArgumentException("잘못된 모임 ID입니다.");
         }
         
-        // 조회수 증가
-        post.incrementViewCount();
-        postRepository.save(post);
+        // 현재 카운터 조회 (PK 조회 1회, 캐시 이후 댓글이 바뀌었으면 다시 조립)
+        Object[] counters = postRepository.findCountersById(postId).stream()
+                .findFirst()
+                .orElse(null);
+        if (counters == null) {
+            postDetailCache.invalidateNow(postId);
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+        }
+        if (!response.getCommentCount().equals(counters[2])) {
+            postDetailCache.invalidateNow(postId);
+            response = postDetailCache.get(postId, () -> loadPostDetail(postId));
+        }
+        
+        // 조회수 증가 (메모리에 모아 주기적으로 일괄 반영)
+        postViewCountAggregator.increment(postId);
+        
+        response.setViewCount(postViewCountAggregator.getViewCount(postId, (Integer) counters[0]));
+        response.setLikeCount((Integer) counters[1]);
+        response.setLikedByMe(userId != null && postLikeRepository.existsByPostIdAndUserId(postId, userId));
+        commentTreeLoader.markLikedComments(response.getComments(), userId);
+        
+        return response;
+    }
+    
+    /**
+     * 게시글 상세 응답 조립 (사용자 무관, 상세 캐시 적재용)
+     */
+    private PostResponse loadPostDetail(Long postId) {
+        Post post = postRepository.findDetailById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
         
         // DTO 변환
         PostResponse response = PostResponse.fromEntity(post);
@@ -112,16 +264,195 @@ public class PostService {
                 .collect(Collectors.toList());
         response.setImages(images);
         
-        // 댓글 정보 추가
-        List<PostResponse.CommentResponse> comments = commentRepository.findTopLevelCommentsByPostId(postId)
-                .stream()
-                .map(this::convertToCommentResponse)
-                .collect(Collectors.toList());
-        response.setComments(comments);
+        // 댓글 정보 추가 (댓글이 적으면 전체 트리, 많으면 최상위 댓글 첫 페이지와 답글 미리보기)
+        if (post.getCommentCount() <= FULL_COMMENT_TREE_LIMIT) {
+            List<PostResponse.CommentResponse> comments = commentTreeLoader.loadTree(postId, null);
+            response.setComments(comments);
+            response.setCommentPagination(PostListResponse.PaginationInfo.builder()
+                    .currentPage(1)
+                    .totalPages(1)
+                    .totalElements((long) comments.size())
+                    .size(comments.size())
+                    .hasNext(false)
+                    .hasPrevious(false)
+                    .build());
+        } else {
+            CommentPageResponse commentPage = commentTreeLoader.loadTopLevelPage(postId, null, 1, DEFAULT_COMMENT_PAGE_SIZE);
+            response.setComments(commentPage.getComments());
+            response.setCommentPagination(commentPage.getPagination());
+        }
         
         return response;
     }
     
+    /**
+     * 최상위 댓글 페이지 조회 (각 댓글의 답글 수와 답글 미리보기 포함)
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long postId, Long moimId, Long userId, int page, int size) {
+        if (!postRepository.existsByIdAndMoimId(postId, moimId)) {
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+        }
+        return commentTreeLoader.loadTopLevelPage(postId, userId, page, size);
+    }
+    
+    /**
+     * 답글 페이지 조회 (각 답글의 답글 수와 답글 미리보기 포함)
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse getReplies(Long postId, Long moimId, Long commentId, Long userId, int page, int size) {
+        if (!postRepository.existsByIdAndMoimId(postId, moimId)) {
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+        }
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다."));
+        if (!comment.getPost().getId().equals(postId)) {
+            throw new IllegalArgumentException("잘못된 댓글 ID입니다.");
+        }
+        return commentTreeLoader.loadReplyPage(commentId, userId, page, size);
+    }
+    
+    /**
+     * 게시글 검색 (모임별 역색인 사용, 관련도 순 커서 페이지네이션)
+     * 색인이 준비되기 전이거나 한 글자 단어가 포함된 검색어는 DB 부분 일치 검색(최신순)으로 대체한다.
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public PostSearchResponse searchPosts(Long moimId, Long userId, String query, String cursor, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        
+        // 대체 검색으로 시작한 조회는 도중에 색인이 준비되어도 같은 방식으로 이어서 조회
+        String cursorSortKey = cursor != null && !cursor.isEmpty() ? CursorUtil.sortKeyOf(cursor) : null;
+        Optional<List<PostSearchIndex.ScoredPost>> indexed = KEYWORD_SEARCH_SORT_KEY.equals(cursorSortKey)
+                ? Optional.empty()
+                : postSearchIndex.search(moimId, query);
+        if (indexed.isEmpty()) {
+            if (RELEVANCE_SEARCH_SORT_KEY.equals(cursorSortKey)) {
+                throw new IllegalArgumentException("검색 색인이 갱신되어 이어서 조회할 수 없습니다. 다시 검색해주세요.");
+            }
+            return searchPostsByKeyword(moimId, userId, query, cursor, limit);
+        }
+        List<PostSearchIndex.ScoredPost> matches = indexed.get();
+        
+        // 커서 다음 위치부터 limit + 1 건 (점수 내림차순, 같은 점수는 ID 내림차순)
+        int from = 0;
+        if (cursorSortKey != null) {
+            List<String> values = CursorUtil.decode(cursor, RELEVANCE_SEARCH_SORT_KEY, 2);
+            double cursorScore;
+            long cursorId;
+            try {
+                cursorScore = Double.parseDouble(values.get(0));
+                cursorId = Long.parseLong(values.get(1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            while (from < matches.size()) {
+                PostSearchIndex.ScoredPost match = matches.get(from);
+                if (match.getScore() < cursorScore
+                        || (match.getScore() == cursorScore && match.getPostId() < cursorId)) {
+                    break;
+                }
+                from++;
+            }
+        }
+        List<PostSearchIndex.ScoredPost> page = matches.subList(from, Math.min(matches.size(), from + limit + 1));
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+        
+        // 게시글 본문/작성자 일괄 조회 (DB 에서 직접 삭제되어 없는 게시글은 제외)
+        Map<Long, Post> posts = postRepository.findAllWithAuthorByIdIn(page.stream()
+                        .map(PostSearchIndex.ScoredPost::getPostId)
+                        .collect(Collectors.toList())).stream()
+                .filter(post -> post.getMoim().getId().equals(moimId))
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        Set<Long> likedPostIds = findLikedPostIds(userId, new ArrayList<>(posts.keySet()));
+        
+        List<PostSearchResponse.SearchResult> results = page.stream()
+                .map(match -> {
+                    Post post = posts.get(match.getPostId());
+                    return post != null ? toSearchResult(post, match.getScore(), query, likedPostIds) : null;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (hasNext) {
+            PostSearchIndex.ScoredPost last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(RELEVANCE_SEARCH_SORT_KEY, last.getScore(), last.getPostId());
+        }
+        
+        return PostSearchResponse.builder()
+                .results(results)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(matches.size())  // 색인 기준 일치 수 (DB 에서 직접 삭제된 게시글이 포함될 수 있는 근사값)
+                .build();
+    }
+    
+    /**
+     * DB 부분 일치 게시글 검색 (검색 색인을 쓸 수 없을 때, 최신순 커서 페이지네이션)
+     */
+    private PostSearchResponse searchPostsByKeyword(Long moimId, Long userId, String query, String cursor, int limit) {
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            List<String> values = CursorUtil.decode(cursor, KEYWORD_SEARCH_SORT_KEY, 1);
+            try {
+                beforeId = Long.parseLong(values.get(0));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        
+        List<Post> posts = postRepository.findWithAuthorBySearchKeyword(
+                moimId, query.trim(), beforeId, PageRequest.of(0, limit + 1));
+        boolean hasNext = posts.size() > limit;
+        if (hasNext) {
+            posts = posts.subList(0, limit);
+        }
+        
+        Set<Long> likedPostIds = findLikedPostIds(userId, posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList()));
+        List<PostSearchResponse.SearchResult> results = posts.stream()
+                .map(post -> toSearchResult(post, null, query, likedPostIds))
+                .collect(Collectors.toList());
+        
+        return PostSearchResponse.builder()
+                .results(results)
+                .nextCursor(hasNext ? CursorUtil.encode(KEYWORD_SEARCH_SORT_KEY, posts.get(posts.size() - 1).getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 검색 결과 한 건 생성 (조회수, 좋아요 여부, 강조된 제목과 본문 발췌 포함)
+     */
+    private PostSearchResponse.SearchResult toSearchResult(Post post, Double score, String query, Set<Long> likedPostIds) {
+        PostListResponse.PostSummary summary = PostListResponse.PostSummary.fromEntity(post);
+        summary.setViewCount(postViewCountAggregator.getViewCount(post.getId(), post.getViewCount()));
+        summary.setLikedByMe(likedPostIds.contains(post.getId()));
+        return PostSearchResponse.SearchResult.builder()
+                .post(summary)
+                .score(score)
+                .highlightedTitle(SearchHighlighter.highlight(post.getTitle(), query))
+                .snippet(SearchHighlighter.snippet(post.getContent(), query, SEARCH_SNIPPET_LENGTH))
+                .build();
+    }
+    
+    /**
+     * 게시글 ID 목록 중 사용자가 좋아요한 게시글 ID 조회
+     */
+    private Set<Long> findLikedPostIds(Long userId, List<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+    }
+    
     /**
      * 게시글 작성
      */
@@ -144,22 +475,23 @@ public class PostService {
                 .isAnonymous(request.getIsAnonymous())
                 .build();
         
-        // 이미지 추가
-        if (request.getImages() != null) {
-            for (CreatePostRequest.PostImageRequest imageRequest : request.getImages()) {
-                PostImage image = PostImage.builder()
-                        .imageUrl(imageRequest.getImageUrl())
-                        .imageOrder(imageRequest.getImageOrder())
-                        .build();
-                post.addImage(image);
-            }
-        }
-        
         Post savedPost = postRepository.save(post);
         
-        // 모임의 게시글 수 증가
-        moim.setCurrentMembers(moim.getCurrentMembers() + 1);
-        moimRepository.save(moim);
+        // 이미지 추가 (여러 행 INSERT 한 번으로 일괄 저장)
+        if (request.getImages() != null && !request.getImages().isEmpty()) {
+            List<PostImage> images = request.getImages().stream()
+                    .map(imageRequest -> PostImage.builder()
+                            .imageUrl(imageRequest.getImageUrl())
+                            .imageOrder(imageRequest.getImageOrder())
+                            .build())
+                    .collect(Collectors.toList());
+            postImageRepository.insertAll(savedPost.getId(), images);
+        }
+        popularMoimRanking.onPostCreated(moimId);
+        postSearchIndex.onPostSaved(savedPost);
+        
+        // 모임 게시판 카운터 증가 (모임 전체/작성자, 타입별)
+        moimBoardCounters.onPostCreated(moimId, userId, savedPost.getType());
         
         return savedPost;
     }
@@ -199,9 +531,10 @@ public class PostService {
         
         Comment savedComment = commentRepository.save(comment);
         
-        // 게시글에 댓글 추가
-        post.addComment(savedComment);
-        postRepository.save(post);
+        // 게시글 댓글 수 증가 (댓글 컬렉션을 읽지 않는 원자적 UPDATE) 및 모임 게시판 카운터 증가
+        postRepository.addCommentCount(postId, 1);
+        moimBoardCounters.onCommentCreated(post.getMoim().getId(), userId);
+        postDetailCache.invalidate(postId);
         
         Map<String, Object> response = new HashMap<>();
         response.put("id", savedComment.getId());
@@ -217,90 +550,73 @@ public class PostService {
     
     /**
      * 게시글 좋아요 토글
+     * 게시글 엔티티를 읽지 않고 unique(post_id, user_id) 기준 삭제/INSERT IGNORE 결과(영향 행 수)로
+     * 좋아요 상태를 정하고, 좋아요 수는 상대값 UPDATE 로 증감해 동시 요청에서도 누락되지 않게 한다.
      */
     public Map<String, Object> togglePostLike(Long postId, Long userId) {
-        // 게시글 존재 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
-        
-        // 사용자 존재 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        
-        // 이미 좋아요를 눌렀는지 확인
-        PostLike existingLike = postLikeRepository.findByPostIdAndUserId(postId, userId)
-                .orElse(null);
-        
         Map<String, Object> response = new HashMap<>();
         
-        if (existingLike != null) {
+        if (postLikeRepository.deleteLike(postId, userId) > 0) {
             // 좋아요 취소
-            postLikeRepository.delete(existingLike);
-            post.decrementLikeCount();
-            postRepository.save(post);
+            postRepository.addLikeCount(postId, -1);
             
             response.put("liked", false);
             response.put("message", "좋아요를 취소했습니다.");
         } else {
-            // 좋아요 추가
-            PostLike newLike = PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            postLikeRepository.save(newLike);
-            post.incrementLikeCount();
-            postRepository.save(post);
+            // 좋아요 추가 (동시에 같은 요청이 먼저 반영된 경우 0행)
+            if (postLikeRepository.insertIgnore(postId, userId) > 0) {
+                postRepository.addLikeCount(postId, 1);
+            } else if (!postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+                // 게시글/사용자가 없어 외래 키 조건으로 무시된 경우
+                if (!postRepository.existsById(postId)) {
+                    throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+                }
+                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+            }
             
             response.put("liked", true);
             response.put("message", "좋아요를 눌렀습니다.");
         }
         
-        response.put("likeCount", post.getLikeCount());
+        response.put("likeCount", postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다.")));
         
         return response;
     }
     
     /**
-     * 댓글 좋아요 토글
+     * 댓글 좋아요 토글 (게시글 좋아요와 같은 방식)
      */
     public Map<String, Object> toggleCommentLike(Long commentId, Long userId) {
-        // 댓글 존재 확인
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다."));
-        
-        // 사용자 존재 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        
-        // 이미 좋아요를 눌렀는지 확인
-        CommentLike existingLike = commentLikeRepository.findByCommentIdAndUserId(commentId, userId)
-                .orElse(null);
-        
         Map<String, Object> response = new HashMap<>();
         
-        if (existingLike != null) {
+        if (commentLikeRepository.deleteLike(commentId, userId) > 0) {
             // 좋아요 취소
-            commentLikeRepository.delete(existingLike);
-            comment.decrementLikeCount();
-            commentRepository.save(comment);
+            commentRepository.addLikeCount(commentId, -1);
             
             response.put("liked", false);
             response.put("message", "좋아요를 취소했습니다.");
         } else {
-            // 좋아요 추가
-            CommentLike newLike = CommentLike.builder()
-                    .comment(comment)
-                    .user(user)
-                    .build();
-            commentLikeRepository.save(newLike);
-            comment.incrementLikeCount();
-            commentRepository.save(comment);
+            // 좋아요 추가 (동시에 같은 요청이 먼저 반영된 경우 0행)
+            if (commentLikeRepository.insertIgnore(commentId, userId) > 0) {
+                commentRepository.addLikeCount(commentId, 1);
+            } else if (!commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
+                // 댓글/사용자가 없어 외래 키 조건으로 무시된 경우
+                if (!commentRepository.existsById(commentId)) {
+                    throw new IllegalArgumentException("존재하지 않는 댓글입니다.");
+                }
+                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+            }
             
             response.put("liked", true);
             response.put("message", "좋아요를 눌렀습니다.");
         }
         
-        response.put("likeCount", comment.getLikeCount());
+        response.put("likeCount", commentRepository.findLikeCountById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다.")));
+        
+        // 캐시된 게시글 상세의 댓글 좋아요 수 갱신
+        commentRepository.findPostIdById(commentId).ifPresent(postDetailCache::invalidate);
         
         return response;
     }
@@ -323,33 +639,10 @@ public class PostService {
                 break;
         }
         
-        return PageRequest.of(page - 1, size, sortObj);
-    }
-    
-    /**
-     * 댓글을 응답 DTO로 변환
-     */
-    private PostResponse.CommentResponse convertToCommentResponse(Comment comment) {
-        PostResponse.CommentResponse response = PostResponse.CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .authorId(comment.getAuthor().getId())
-                .authorName(comment.getIsAnonymous() ? "익명" : comment.getAuthor().getName())
-                .authorProfileImage(comment.getIsAnonymous() ? null : comment.getAuthor().getProfileImage())
-                .isAnonymous(comment.getIsAnonymous())
-                .likeCount(comment.getLikeCount())
-                .createdAt(comment.getCreatedAt())
-                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .build();
-        
-        // 답글 추가
-        if (comment.hasReplies()) {
-            List<PostResponse.CommentResponse> replies = comment.getReplies().stream()
-                    .map(this::convertToCommentResponse)
-                    .collect(Collectors.toList());
-            response.setReplies(replies);
-        }
-        
-        return response;
+        // 고정 게시글을 항상 먼저 두고, 같은 정렬 값은 ID 역순으로 페이지 간 순서를 고정
+        Sort pinnedFirst = Sort.by(Sort.Direction.DESC, "isPinned")
+                .and(sortObj)
+                .and(Sort.by(Sort.Direction.DESC, "id"));
+        return PageRequest.of(page - 1, size, pinnedFirst);
     }
 }
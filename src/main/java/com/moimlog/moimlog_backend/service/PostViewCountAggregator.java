@@ -0,0 +1,110 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계 (write-behind)
+ * 조회 시마다 게시글 행을 UPDATE 하면 인기 게시글에서 행 잠금 경합이 생기므로,
+ * 조회수 증가분을 게시글별 LongAdder 에 모아 두었다가 주기적으로 일괄 반영한다.
+ * 조회 응답에는 DB 값에 아직 반영되지 않은 증가분을 더해 보여준다.
+ */
+@Component
+@Slf4j
+public class PostViewCountAggregator {
+    
+    private static final long FLUSH_INTERVAL_MILLIS = 5 * 1000L;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 게시글 ID → 아직 DB에 반영되지 않은 조회수 증가분
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    public PostViewCountAggregator(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 조회수 1 증가 (메모리에만 반영)
+     */
+    public void increment(Long postId) {
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        // 반영 중 유휴 카운터 정리와 겹쳐 제거된 카운터에 더해졌다면 새 카운터에 다시 더함
+        while (pending.get(postId) != adder) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            adder.increment();
+        }
+    }
+    
+    /**
+     * DB 조회수에 아직 반영되지 않은 증가분을 더한 조회수
+     */
+    public int getViewCount(Long postId, Integer persistedViewCount) {
+        LongAdder adder = pending.get(postId);
+        long delta = adder == null ? 0 : adder.sum();
+        return (int) ((persistedViewCount == null ? 0 : persistedViewCount) + delta);
+    }
+    
+    /**
+     * 모아 둔 조회수 증가분을 DB에 일괄 반영
+     * 증가분이 같은 게시글끼리 묶어 UPDATE 한 번으로 처리하고, 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS, initialDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                pending.remove(postId, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) -> postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId));
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<Long, List<Long>> entry : postIdsByDelta.entrySet()) {
+                    List<Long> postIds = entry.getValue();
+                    for (int from = 0; from < postIds.size(); from += FLUSH_BATCH_SIZE) {
+                        List<Long> batch = postIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, postIds.size()));
+                        postRepository.addViewCount(batch, entry.getKey().intValue());
+                    }
+                }
+            });
+            log.debug("게시글 조회수 반영 완료: posts={}, statements={}", deltas.size(), postIdsByDelta.size());
+        } catch (RuntimeException e) {
+            log.error("게시글 조회수 반영 실패, 다음 주기에 재시도: posts={}, error={}", deltas.size(), e.getMessage());
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+    
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,81 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Schedule;
+import com.moimlog.moimlog_backend.util.RecurrenceRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반복 일정 발생 일시 캐시 (일정 ID + 조회 구간 기준 LRU)
+ * 달력 화면은 같은 월/주 구간을 반복해서 조회하므로, 규칙 전개 결과(원래 규칙상의 시작 일시 목록)를 보관한다.
+ * 회차별 취소/변경은 캐시하지 않고 조회할 때마다 적용하며, 규칙이나 첫 시작 일시가 바뀐 일정은
+ * 저장해 둔 규칙 지문과 달라지므로 따로 무효화하지 않아도 다시 전개된다.
+ */
+@Component
+@Slf4j
+public class ScheduleOccurrenceCache {
+    
+    private static final int MAX_ENTRIES = 2000;
+    private static final long MAX_AGE_MILLIS = 30 * 60 * 1000L;
+    // 일정 하나가 한 구간에서 만들 수 있는 최대 회차 수 (매일 반복 일정을 수년 구간으로 조회하는 경우 대비)
+    private static final int MAX_OCCURRENCES_PER_WINDOW = 500;
+    
+    // "일정 ID:구간 시작:구간 끝" → 전개 결과 (접근 순서 유지)
+    private final Map<String, CachedOccurrences> occurrences = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedOccurrences> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    
+    /**
+     * 조회 구간 안에서 시작하는 반복 일정의 원래 발생 일시 목록 (오름차순)
+     * @throws IllegalArgumentException 반복 규칙이 잘못된 경우
+     */
+    public List<LocalDateTime> getOccurrences(Schedule schedule, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        String key = schedule.getId() + ":" + windowStart + ":" + windowEnd;
+        String fingerprint = schedule.getRecurrenceRule() + "@" + schedule.getStartDate();
+        
+        CachedOccurrences cached;
+        synchronized (occurrences) {
+            cached = occurrences.get(key);
+        }
+        if (cached != null && !cached.isExpired() && cached.fingerprint.equals(fingerprint)) {
+            return cached.dates;
+        }
+        
+        List<LocalDateTime> dates = List.copyOf(RecurrenceRule.parse(schedule.getRecurrenceRule())
+                .occurrencesBetween(schedule.getStartDate(), windowStart, windowEnd, MAX_OCCURRENCES_PER_WINDOW));
+        if (dates.size() >= MAX_OCCURRENCES_PER_WINDOW) {
+            log.warn("반복 일정 회차 수 제한 도달: scheduleId={}, window={}~{}", schedule.getId(), windowStart, windowEnd);
+        }
+        synchronized (occurrences) {
+            occurrences.put(key, new CachedOccurrences(fingerprint, dates, System.currentTimeMillis()));
+        }
+        return dates;
+    }
+    
+    /**
+     * 캐시된 전개 결과
+     */
+    private static class CachedOccurrences {
+        private final String fingerprint;
+        private final List<LocalDateTime> dates;
+        private final long createdAt;
+        
+        private CachedOccurrences(String fingerprint, List<LocalDateTime> dates, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.dates = dates;
+            this.createdAt = createdAt;
+        }
+        
+        private boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > MAX_AGE_MILLIS;
+        }
+    }
+}
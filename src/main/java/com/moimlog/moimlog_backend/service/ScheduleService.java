@@ -1,22 +1,37 @@
 package com.moimlog.moimlog_backend.service;
 
 import com.moimlog.moimlog_backend.dto.request.CreateScheduleRequest;
+import com.moimlog.moimlog_backend.dto.request.ScheduleExceptionRequest;
 import com.moimlog.moimlog_backend.entity.*;
 import com.moimlog.moimlog_backend.repository.*;
+import com.moimlog.moimlog_backend.util.CursorUtil;
+import com.moimlog.moimlog_backend.util.RecurrenceRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * 일정 관련 비즈니스 로직을 처리하는 서비스
@@ -27,47 +42,90 @@ import org.springframework.data.domain.Pageable;
 @Transactional
 public class ScheduleService {
     
+    // 일정 목록에서 일정마다 보여줄 참석자 수
+    private static final int ATTENDEE_PREVIEW_SIZE = 5;
+    // 날짜 범위 조회의 최대 기간 (일)
+    private static final int MAX_RANGE_DAYS = 366;
+    // 다가오는 일정 목록에서 반복 일정 회차를 계산하는 최대 기간 (일)
+    private static final int UPCOMING_HORIZON_DAYS = 366;
+    // 대기자 참석 전환 최대 시도 횟수 (전환 직전에 대기자가 상태를 바꾼 경우 다음 대기자 시도)
+    private static final int MAX_PROMOTION_ATTEMPTS = 5;
+    // 일정 응답 정렬 (시작 일시 → 일정 ID)
+    private static final Comparator<Map<String, Object>> SCHEDULE_ORDER =
+            Comparator.comparing((Map<String, Object> response) -> (LocalDateTime) response.get("startDate"))
+                    .thenComparing(response -> (Long) response.get("id"));
+    
     private final ScheduleRepository scheduleRepository;
     private final ScheduleParticipantRepository scheduleParticipantRepository;
     private final MoimRepository moimRepository;
     private final UserRepository userRepository;
+    private final MoimMemberRepository moimMemberRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ScheduleOccurrenceCache scheduleOccurrenceCache;
     
     /**
      * 일정 목록 조회
+     * 날짜 범위(startDate/endDate) 또는 달력 구간(view=month|week, 기준 날짜 date)을 지정하면 구간 안의 일정을,
+     * 지정하지 않으면 다가오는 일정을 시작 일시 순 커서 페이지로 반환한다.
+     * 어느 경우든 반복 일정은 회차로 펼치고 회차별 취소/변경을 반영한다.
      */
-    public Map<String, Object> getSchedules(Long moimId, String startDate, String endDate, String type) {
-        List<Schedule> schedules;
-        
-        if (startDate != null && endDate != null) {
-            // 날짜 범위로 조회
-            LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-            LocalDateTime end = LocalDate.parse(endDate).atTime(23, 59, 59);
-            
-            if (type != null && !type.equals("all")) {
-                Schedule.ScheduleType scheduleType = Schedule.ScheduleType.valueOf(type.toUpperCase());
-                schedules = scheduleRepository.findByMoimIdAndTypeAndDateRange(moimId, scheduleType, start, end);
-            } else {
-                schedules = scheduleRepository.findByMoimIdAndDateRange(moimId, start, end);
+    public Map<String, Object> getSchedules(Long moimId, String startDate, String endDate, String type,
+                                            String view, String date, String cursor, int size) {
+        Schedule.ScheduleType scheduleType = null;
+        if (type != null && !type.equals("all")) {
+            try {
+                scheduleType = Schedule.ScheduleType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 일정 타입입니다.");
             }
-        } else {
-            // 전체 일정 조회
-            if (type != null && !type.equals("all")) {
-                Schedule.ScheduleType scheduleType = Schedule.ScheduleType.valueOf(type.toUpperCase());
-                Page<Schedule> schedulePage = scheduleRepository.findByMoimIdAndTypeOrderByStartDateAsc(moimId, scheduleType, Pageable.unpaged());
-                schedules = schedulePage.getContent();
-            } else {
-                Page<Schedule> schedulePage = scheduleRepository.findByMoimIdOrderByStartDateAsc(moimId, Pageable.unpaged());
-                schedules = schedulePage.getContent();
+        }
+        
+        LocalDate rangeStart = null;
+        LocalDate rangeEnd = null;
+        try {
+            if (startDate != null && endDate != null) {
+                rangeStart = LocalDate.parse(startDate);
+                rangeEnd = LocalDate.parse(endDate);
+            } else if (view != null) {
+                LocalDate baseDate = date != null ? LocalDate.parse(date) : LocalDate.now();
+                switch (view.toLowerCase()) {
+                    case "month" -> {
+                        rangeStart = baseDate.withDayOfMonth(1);
+                        rangeEnd = baseDate.with(TemporalAdjusters.lastDayOfMonth());
+                    }
+                    case "week" -> {
+                        rangeStart = baseDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                        rangeEnd = rangeStart.plusDays(6);
+                    }
+                    default -> throw new IllegalArgumentException("달력 구간은 month 또는 week 만 지원합니다.");
+                }
             }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜는 yyyy-MM-dd 형식이어야 합니다.");
         }
         
-        // DTO 변환
-        List<Map<String, Object>> scheduleResponses = schedules.stream()
-                .map(this::convertToScheduleResponse)
-                .collect(Collectors.toList());
+        if (rangeStart == null) {
+            // 다가오는 일정 (커서 페이지네이션)
+            return getUpcomingSchedules(moimId, scheduleType, cursor, size);
+        }
+        
+        if (rangeEnd.isBefore(rangeStart)) {
+            throw new IllegalArgumentException("종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(rangeStart, rangeEnd) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("일정 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        
+        // 날짜 범위로 조회
+        LocalDateTime start = rangeStart.atStartOfDay();
+        LocalDateTime end = rangeEnd.atTime(23, 59, 59);
+        List<Map<String, Object>> scheduleResponses = getSchedulesInRange(moimId, scheduleType, start, end);
+        attachRsvpSummaries(scheduleResponses);
         
         Map<String, Object> response = new HashMap<>();
         response.put("schedules", scheduleResponses);
+        response.put("startDate", rangeStart);
+        response.put("endDate", rangeEnd);
         
         return response;
     }
@@ -84,6 +142,12 @@ public class ScheduleService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
+        // 반복 규칙 확인 (조회 시 회차로 펼칠 수 있는 규칙만 저장, 끝나는 반복은 종료 시각도 함께 저장)
+        LocalDateTime recurrenceEnd = null;
+        if (Boolean.TRUE.equals(request.getIsRecurring())) {
+            recurrenceEnd = RecurrenceRule.parse(request.getRecurrenceRule()).seriesEnd(request.getStartDate());
+        }
+        
         // 일정 생성
         Schedule schedule = Schedule.builder()
                 .moim(moim)
@@ -93,10 +157,15 @@ public class ScheduleService {
                 .endDate(request.getEndDate())
                 .location(request.getLocation())
                 .locationDetail(request.getLocationDetail())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .maxAttendees(request.getMaxAttendees())
                 .type(request.getType())
                 .isRecurring(request.getIsRecurring())
                 .recurrenceRule(request.getRecurrenceRule())
+                .recurrenceEnd(recurrenceEnd)
+                // 작성자는 참석자로 등록되므로 한 자리를 차지함
+                .attendingCount(1)
                 .createdBy(user)
                 .build();
         
@@ -113,10 +182,112 @@ public class ScheduleService {
         return savedSchedule;
     }
     
+    /**
+     * 반복 일정 회차 취소/변경 (같은 회차에 다시 요청하면 기존 내용을 교체)
+     * 일정 작성자 또는 모임 운영진(관리자/모더레이터)만 가능
+     */
+    public Map<String, Object> saveScheduleException(Long moimId, Long scheduleId, Long userId,
+                                                     ScheduleExceptionRequest request) {
+        // 일정 존재 확인
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .filter(found -> found.getMoim().getId().equals(moimId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 일정입니다."));
+        
+        if (!Boolean.TRUE.equals(schedule.getIsRecurring())) {
+            throw new IllegalArgumentException("반복 일정만 회차를 변경할 수 있습니다.");
+        }
+        
+        // 권한 확인
+        if (!schedule.getCreatedBy().getId().equals(userId)) {
+            moimMemberRepository.findByMoimIdAndUserId(moimId, userId)
+                    .filter(MoimMember::isModeratorOrHigher)
+                    .orElseThrow(() -> new IllegalArgumentException("일정 작성자 또는 모임 운영진만 회차를 변경할 수 있습니다."));
+        }
+        
+        // 규칙상 존재하는 회차인지 확인
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        if (!rule.isOccurrence(schedule.getStartDate(), request.getOccurrenceDate())) {
+            throw new IllegalArgumentException("반복 일정의 회차 일시가 아닙니다.");
+        }
+        
+        ScheduleException exception = scheduleExceptionRepository
+                .findByScheduleIdAndOccurrenceDate(scheduleId, request.getOccurrenceDate())
+                .orElse(null);
+        boolean isNew = exception == null;
+        if (isNew) {
+            exception = ScheduleException.builder()
+                    .schedule(schedule)
+                    .occurrenceDate(request.getOccurrenceDate())
+                    .build();
+        }
+        exception.setIsCancelled(Boolean.TRUE.equals(request.getIsCancelled()));
+        exception.setTitle(request.getTitle());
+        exception.setDescription(request.getDescription());
+        exception.setStartDate(request.getStartDate());
+        exception.setEndDate(request.getEndDate());
+        exception.setLocation(request.getLocation());
+        exception.setLocationDetail(request.getLocationDetail());
+        ScheduleException savedException = scheduleExceptionRepository.save(exception);
+        
+        // 회차를 반복 종료 시각 이후로 옮기면 종료 시각을 늘려 해당 구간 조회에서도 반복 일정이 빠지지 않게 함
+        if (schedule.getRecurrenceEnd() != null && request.getStartDate() != null
+                && request.getStartDate().isAfter(schedule.getRecurrenceEnd())) {
+            schedule.setRecurrenceEnd(request.getStartDate());
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("action", isNew ? "created" : "updated");
+        response.put("id", savedException.getId());
+        response.put("scheduleId", scheduleId);
+        response.put("occurrenceDate", savedException.getOccurrenceDate());
+        response.put("isCancelled", savedException.getIsCancelled());
+        response.put("isOverridden", savedException.isOverridden());
+        
+        return response;
+    }
+    
+    /**
+     * 일정 참가자 목록 조회 (페이지네이션, 참가 상태 선택)
+     */
+    public Map<String, Object> getScheduleParticipants(Long moimId, Long scheduleId, String status, int page, int size) {
+        // 일정 존재 확인
+        scheduleRepository.findById(scheduleId)
+                .filter(schedule -> schedule.getMoim().getId().equals(moimId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 일정입니다."));
+        
+        ScheduleParticipant.Status participantStatus = status != null && !status.equals("all")
+                ? ScheduleParticipant.Status.valueOf(status.toUpperCase())
+                : null;
+        Page<ScheduleParticipant> participantPage = scheduleParticipantRepository
+                .findPageWithUserByScheduleId(scheduleId, participantStatus, PageRequest.of(page - 1, size));
+        
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("currentPage", participantPage.getNumber() + 1);
+        pagination.put("totalPages", participantPage.getTotalPages());
+        pagination.put("totalCount", participantPage.getTotalElements());
+        pagination.put("hasNext", participantPage.hasNext());
+        pagination.put("hasPrev", participantPage.hasPrevious());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("participants", participantPage.getContent().stream()
+                .map(this::convertToParticipantResponse)
+                .collect(Collectors.toList()));
+        response.put("pagination", pagination);
+        
+        return response;
+    }
+    
     /**
      * 일정 참석 처리
+     * 참석(ATTENDING)은 일정의 참석 인원을 조건부 UPDATE 로 먼저 확보한 경우에만 인정하고,
+     * 정원이 찼으면 대기(WAITLISTED)로 등록한다. 참석자가 다른 상태로 바꾸면 자리를 반납하고
+     * 가장 먼저 대기한 참가자를 참석으로 전환한다.
      */
     public Map<String, Object> participateSchedule(Long scheduleId, Long userId, ScheduleParticipant.Status status) {
+        if (status == ScheduleParticipant.Status.WAITLISTED) {
+            throw new IllegalArgumentException("대기 상태는 직접 선택할 수 없습니다.");
+        }
+        
         // 일정 존재 확인
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 일정입니다."));
@@ -129,37 +300,372 @@ public class ScheduleService {
         ScheduleParticipant existingParticipant = scheduleParticipantRepository
                 .findByScheduleIdAndUserId(scheduleId, userId)
                 .orElse(null);
+        ScheduleParticipant.Status currentStatus = existingParticipant != null ? existingParticipant.getStatus() : null;
+        
+        // 참석 신청은 자리를 확보한 경우에만 참석, 아니면 대기
+        ScheduleParticipant.Status newStatus = status;
+        boolean seatClaimed = false;
+        if (status == ScheduleParticipant.Status.ATTENDING && currentStatus != ScheduleParticipant.Status.ATTENDING) {
+            seatClaimed = scheduleRepository.claimSeat(scheduleId) == 1;
+            if (!seatClaimed) {
+                newStatus = ScheduleParticipant.Status.WAITLISTED;
+            }
+        }
         
         Map<String, Object> response = new HashMap<>();
         
         if (existingParticipant != null) {
-            // 기존 참가자 상태 업데이트
-            existingParticipant.setStatus(status);
-            scheduleParticipantRepository.save(existingParticipant);
+            // 기존 참가자 상태 업데이트 (실패 시 확보한 자리를 반납, 호출한 쪽이 예외를 잡고 커밋해도 자리가 새지 않음)
+            if (currentStatus != newStatus) {
+                int updated = scheduleParticipantRepository.updateStatusIfCurrent(
+                        existingParticipant.getId(), currentStatus, newStatus, LocalDateTime.now());
+                if (updated == 0) {
+                    releaseClaimedSeat(scheduleId, seatClaimed);
+                    throw new IllegalArgumentException("참석 상태가 동시에 변경되었습니다. 다시 시도해주세요.");
+                }
+                if (currentStatus == ScheduleParticipant.Status.ATTENDING) {
+                    scheduleRepository.releaseSeat(scheduleId);
+                    promoteWaitlisted(scheduleId);
+                }
+            }
             
             response.put("action", "updated");
             response.put("message", "참석 상태가 업데이트되었습니다.");
         } else {
             // 새로운 참가자 추가
-            ScheduleParticipant newParticipant = ScheduleParticipant.builder()
-                    .schedule(schedule)
-                    .user(user)
-                    .status(status)
-                    .build();
-            scheduleParticipantRepository.save(newParticipant);
+            if (scheduleParticipantRepository.insertIfAbsent(scheduleId, userId, newStatus.name()) == 0) {
+                releaseClaimedSeat(scheduleId, seatClaimed);
+                throw new IllegalArgumentException("이미 처리 중인 참석 요청이 있습니다. 다시 시도해주세요.");
+            }
             
             response.put("action", "added");
             response.put("message", "일정에 참가자로 등록되었습니다.");
         }
         
+        if (newStatus == ScheduleParticipant.Status.WAITLISTED && status == ScheduleParticipant.Status.ATTENDING) {
+            response.put("message", "정원이 마감되어 대기자로 등록되었습니다.");
+        }
+        
         response.put("scheduleId", scheduleId);
         response.put("userId", userId);
-        response.put("status", status);
+        response.put("status", newStatus);
+        response.put("waitlisted", newStatus == ScheduleParticipant.Status.WAITLISTED);
         response.put("userName", user.getName());
+        response.put("maxAttendees", schedule.getMaxAttendees());
+        response.put("attendingCount", scheduleRepository.findAttendingCountById(scheduleId));
+        
+        return response;
+    }
+    
+    /**
+     * 참석 상태 반영에 실패한 요청이 확보해 둔 자리 반납
+     */
+    private void releaseClaimedSeat(Long scheduleId, boolean seatClaimed) {
+        if (seatClaimed) {
+            scheduleRepository.releaseSeat(scheduleId);
+        }
+    }
+    
+    /**
+     * 빈 자리에 가장 먼저 대기한 참가자를 참석으로 전환
+     * 전환 직전에 대기자가 상태를 바꾼 경우 확보한 자리를 반납하고 다음 대기자를 시도한다.
+     */
+    private void promoteWaitlisted(Long scheduleId) {
+        for (int attempt = 0; attempt < MAX_PROMOTION_ATTEMPTS; attempt++) {
+            ScheduleParticipant next = scheduleParticipantRepository
+                    .findFirstByScheduleIdAndStatusOrderByUpdatedAtAscIdAsc(scheduleId, ScheduleParticipant.Status.WAITLISTED)
+                    .orElse(null);
+            if (next == null) {
+                return;
+            }
+            if (scheduleRepository.claimSeat(scheduleId) == 0) {
+                // 다른 참석 신청이 먼저 자리를 가져감
+                return;
+            }
+            if (scheduleParticipantRepository.updateStatusIfCurrent(next.getId(), ScheduleParticipant.Status.WAITLISTED,
+                    ScheduleParticipant.Status.ATTENDING, LocalDateTime.now()) == 1) {
+                log.info("일정 대기자 참석 전환: scheduleId={}, participantId={}", scheduleId, next.getId());
+                return;
+            }
+            scheduleRepository.releaseSeat(scheduleId);
+        }
+    }
+    
+    /**
+     * 날짜 범위 안의 일정 목록 (단일 일정 + 반복 일정 회차, 시작 일시 순)
+     */
+    private List<Map<String, Object>> getSchedulesInRange(Long moimId, Schedule.ScheduleType type,
+                                                          LocalDateTime start, LocalDateTime end) {
+        List<Map<String, Object>> responses = new ArrayList<>();
+        for (Schedule schedule : scheduleRepository.findSingleSchedulesByMoimIdAndDateRange(moimId, type, start, end)) {
+            responses.add(convertToScheduleResponse(schedule));
+        }
+        
+        List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesByMoimIdStartedBefore(moimId, type, start, end);
+        appendOccurrences(responses, recurringSchedules, start, end, null);
+        
+        responses.sort(SCHEDULE_ORDER);
+        return responses;
+    }
+    
+    /**
+     * 다가오는 일정 커서 페이지 (단일 일정 + 반복 일정 회차, 시작 일시 → ID 순)
+     */
+    private Map<String, Object> getUpcomingSchedules(Long moimId, Schedule.ScheduleType type, String cursor, int size) {
+        Map<String, Object> response = getUpcomingPage("upcoming", cursor, size,
+                (cursorStartDate, cursorId) -> scheduleRepository.findUpcomingSingleSchedulesByCursor(
+                        moimId, type, cursorStartDate, cursorId, PageRequest.of(0, size + 1)),
+                (from, horizon) -> scheduleRepository.findRecurringSchedulesByMoimIdStartedBefore(moimId, type, from, horizon));
+        
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> scheduleResponses = (List<Map<String, Object>>) response.get("schedules");
+        attachRsvpSummaries(scheduleResponses);
         
         return response;
     }
     
+    /**
+     * 내 일정 (참여 중인 모든 모임의 다가오는 일정을 한 목록으로, 시작 일시 → ID 순 커서 페이지)
+     * 모임별로 조회하지 않고 모임 멤버 테이블과 일정 테이블의 조인 한 번으로 단일 일정을 가져오며,
+     * 각 일정에 모임 정보와 내 참석 상태(myStatus, 응답하지 않았으면 null)를 함께 담는다.
+     */
+    public Map<String, Object> getMyAgenda(Long userId, String cursor, int size) {
+        // 조회한 일정 ID → 모임 (응답에 모임 정보를 담기 위함)
+        Map<Long, Moim> moimsBySchedule = new HashMap<>();
+        Map<String, Object> response = getUpcomingPage("agenda", cursor, size,
+                (cursorStartDate, cursorId) -> remember(moimsBySchedule,
+                        scheduleRepository.findUpcomingSingleSchedulesForMember(userId, MoimMember.Status.ACTIVE,
+                                cursorStartDate, cursorId, PageRequest.of(0, size + 1))),
+                (from, horizon) -> remember(moimsBySchedule,
+                        scheduleRepository.findRecurringSchedulesForMemberStartedBefore(userId, MoimMember.Status.ACTIVE, from, horizon)));
+        
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> scheduleResponses = (List<Map<String, Object>>) response.get("schedules");
+        if (scheduleResponses.isEmpty()) {
+            return response;
+        }
+        attachRsvpSummaries(scheduleResponses);
+        
+        // 내 참석 상태를 한 번에 조회
+        Set<Long> scheduleIds = scheduleResponses.stream()
+                .map(scheduleResponse -> (Long) scheduleResponse.get("id"))
+                .collect(Collectors.toSet());
+        Map<Long, ScheduleParticipant.Status> myStatuses = new HashMap<>();
+        for (Object[] row : scheduleParticipantRepository.findStatusesByUserIdAndScheduleIds(userId, scheduleIds)) {
+            myStatuses.put((Long) row[0], (ScheduleParticipant.Status) row[1]);
+        }
+        
+        for (Map<String, Object> scheduleResponse : scheduleResponses) {
+            Long scheduleId = (Long) scheduleResponse.get("id");
+            Moim moim = moimsBySchedule.get(scheduleId);
+            scheduleResponse.put("moimId", moim.getId());
+            scheduleResponse.put("moimTitle", moim.getTitle());
+            scheduleResponse.put("moimThumbnail", moim.getThumbnail());
+            scheduleResponse.put("myStatus", myStatuses.get(scheduleId));
+        }
+        
+        return response;
+    }
+    
+    private List<Schedule> remember(Map<Long, Moim> moimsBySchedule, List<Schedule> schedules) {
+        for (Schedule schedule : schedules) {
+            moimsBySchedule.put(schedule.getId(), schedule.getMoim());
+        }
+        return schedules;
+    }
+    
+    /**
+     * 다가오는 일정 커서 페이지 조립
+     * 단일 일정은 커서 이후 size + 1 건만 조회하고, 반복 일정은 그 마지막 일정 시각(또는 UPCOMING_HORIZON_DAYS 이내)까지만
+     * 회차를 계산해 합친다. 응답 크기와 조회량이 전체 일정 수와 무관하게 일정하다.
+     * @param sortKey 커서 구분용 정렬 기준 (다른 목록의 커서는 거부)
+     * @param singleLoader (커서 시작 일시, 커서 ID) → 커서 이후 단일 일정 size + 1 건
+     * @param recurringLoader (커서 시작 일시, 기준 일시) → 기준 일시 이전에 시작했고 커서 시작 일시 전에 끝나지 않은 반복 일정
+     */
+    private Map<String, Object> getUpcomingPage(String sortKey, String cursor, int size,
+                                                BiFunction<LocalDateTime, Long, List<Schedule>> singleLoader,
+                                                BiFunction<LocalDateTime, LocalDateTime, List<Schedule>> recurringLoader) {
+        boolean firstPage = cursor == null || cursor.isEmpty();
+        LocalDateTime cursorStartDate;
+        Long cursorId;
+        if (firstPage) {
+            cursorStartDate = LocalDateTime.now();
+            cursorId = null;
+        } else {
+            List<String> values = CursorUtil.decode(cursor, sortKey, 2);
+            try {
+                cursorStartDate = LocalDateTime.parse(values.get(0));
+                cursorId = Long.valueOf(values.get(1));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        
+        List<Schedule> singleSchedules = singleLoader.apply(cursorStartDate, cursorId);
+        List<Map<String, Object>> responses = new ArrayList<>();
+        for (Schedule schedule : singleSchedules) {
+            responses.add(convertToScheduleResponse(schedule));
+        }
+        
+        // 단일 일정으로 페이지가 찼으면 그 이후의 회차는 이번 페이지에 들어올 수 없음
+        LocalDateTime horizon = singleSchedules.size() > size
+                ? singleSchedules.get(size).getStartDate()
+                : cursorStartDate.plusDays(UPCOMING_HORIZON_DAYS);
+        appendOccurrences(responses, recurringLoader.apply(cursorStartDate, horizon), cursorStartDate, horizon, size + 1);
+        
+        // 커서 이후 항목만 남기고 정렬
+        List<Map<String, Object>> page = responses.stream()
+                .filter(response -> isAfterCursor(response, cursorStartDate, cursorId))
+                .sorted(SCHEDULE_ORDER)
+                .limit(size + 1)
+                .collect(Collectors.toList());
+        boolean hasNext = page.size() > size;
+        if (hasNext) {
+            page = page.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(sortKey, last.get("startDate"), last.get("id"));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("schedules", new ArrayList<>(page));
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", hasNext);
+        
+        return response;
+    }
+    
+    private boolean isAfterCursor(Map<String, Object> response, LocalDateTime cursorStartDate, Long cursorId) {
+        LocalDateTime startDate = (LocalDateTime) response.get("startDate");
+        if (cursorId == null) {
+            return !startDate.isBefore(cursorStartDate);
+        }
+        return startDate.isAfter(cursorStartDate)
+                || (startDate.isEqual(cursorStartDate) && (Long) response.get("id") > cursorId);
+    }
+    
+    /**
+     * 반복 일정들을 구간 안의 회차로 펼쳐 응답 목록에 추가
+     * @param limit 일정별 최대 회차 수 (null 이면 달력 구간으로 보고 회차 캐시 사용)
+     */
+    private void appendOccurrences(List<Map<String, Object>> responses, List<Schedule> recurringSchedules,
+                                   LocalDateTime start, LocalDateTime end, Integer limit) {
+        if (recurringSchedules.isEmpty()) {
+            return;
+        }
+        
+        // 구간에 해당하는 회차별 예외를 한 번에 조회
+        List<Long> scheduleIds = recurringSchedules.stream().map(Schedule::getId).collect(Collectors.toList());
+        Map<Long, Map<LocalDateTime, ScheduleException>> exceptionsBySchedule = new HashMap<>();
+        for (ScheduleException exception : scheduleExceptionRepository.findByScheduleIdsAndWindow(scheduleIds, start, end)) {
+            exceptionsBySchedule.computeIfAbsent(exception.getSchedule().getId(), id -> new HashMap<>())
+                    .put(exception.getOccurrenceDate(), exception);
+        }
+        
+        for (Schedule schedule : recurringSchedules) {
+            Map<LocalDateTime, ScheduleException> exceptions = exceptionsBySchedule.getOrDefault(schedule.getId(), Map.of());
+            List<LocalDateTime> occurrenceDates;
+            try {
+                occurrenceDates = limit == null
+                        ? scheduleOccurrenceCache.getOccurrences(schedule, start, end)
+                        // 취소/이동된 회차만큼 더 계산해야 남은 회차가 limit 에 모자라지 않음
+                        : RecurrenceRule.parse(schedule.getRecurrenceRule())
+                                .occurrencesBetween(schedule.getStartDate(), start, end, limit + exceptions.size());
+            } catch (IllegalArgumentException e) {
+                // 규칙 검증 이전에 저장된 일정은 원본 일정 한 건으로 처리
+                log.warn("반복 규칙을 해석할 수 없는 일정: scheduleId={}, rule={}, reason={}",
+                        schedule.getId(), schedule.getRecurrenceRule(), e.getMessage());
+                if (!schedule.getStartDate().isBefore(start) && !schedule.getStartDate().isAfter(end)) {
+                    responses.add(convertToScheduleResponse(schedule));
+                }
+                continue;
+            }
+            responses.addAll(expandRecurringSchedule(schedule, occurrenceDates, exceptions, start, end));
+        }
+    }
+    
+    /**
+     * 반복 일정을 구간 안의 회차 응답으로 펼침 (취소된 회차 제외, 변경된 회차는 변경 내용 반영)
+     */
+    private List<Map<String, Object>> expandRecurringSchedule(Schedule schedule, List<LocalDateTime> occurrenceDates,
+                                                              Map<LocalDateTime, ScheduleException> exceptions,
+                                                              LocalDateTime start, LocalDateTime end) {
+        List<Map<String, Object>> responses = new ArrayList<>();
+        if (occurrenceDates.isEmpty() && exceptions.isEmpty()) {
+            return responses;
+        }
+        
+        Map<String, Object> base = convertToScheduleResponse(schedule);
+        Duration duration = schedule.getEndDate() != null
+                ? Duration.between(schedule.getStartDate(), schedule.getEndDate())
+                : null;
+        
+        for (LocalDateTime occurrenceDate : occurrenceDates) {
+            ScheduleException exception = exceptions.get(occurrenceDate);
+            if (exception != null && (exception.getIsCancelled() || isMovedOutOfRange(exception, start, end))) {
+                continue;
+            }
+            responses.add(convertToOccurrenceResponse(base, occurrenceDate, duration, exception));
+        }
+        
+        // 범위 밖의 회차를 범위 안으로 옮긴 경우
+        Set<LocalDateTime> expanded = new HashSet<>(occurrenceDates);
+        for (ScheduleException exception : exceptions.values()) {
+            if (!exception.getIsCancelled() && !expanded.contains(exception.getOccurrenceDate())
+                    && exception.getStartDate() != null
+                    && !exception.getStartDate().isBefore(start) && !exception.getStartDate().isAfter(end)) {
+                responses.add(convertToOccurrenceResponse(base, exception.getOccurrenceDate(), duration, exception));
+            }
+        }
+        return responses;
+    }
+    
+    private boolean isMovedOutOfRange(ScheduleException exception, LocalDateTime start, LocalDateTime end) {
+        return exception.getStartDate() != null
+                && (exception.getStartDate().isBefore(start) || exception.getStartDate().isAfter(end));
+    }
+    
+    /**
+     * 반복 일정 회차를 응답 DTO로 변환 (원본 일정 응답에 회차 일시와 변경 내용을 덮어씀)
+     */
+    private Map<String, Object> convertToOccurrenceResponse(Map<String, Object> base, LocalDateTime occurrenceDate,
+                                                            Duration duration, ScheduleException exception) {
+        Map<String, Object> response = new HashMap<>(base);
+        LocalDateTime occurrenceStart = occurrenceDate;
+        LocalDateTime occurrenceEnd = duration != null ? occurrenceDate.plus(duration) : null;
+        boolean overridden = exception != null && exception.isOverridden();
+        
+        if (overridden) {
+            if (exception.getStartDate() != null) {
+                occurrenceStart = exception.getStartDate();
+                occurrenceEnd = duration != null ? occurrenceStart.plus(duration) : null;
+            }
+            if (exception.getEndDate() != null) {
+                occurrenceEnd = exception.getEndDate();
+            }
+            if (exception.getTitle() != null) {
+                response.put("title", exception.getTitle());
+            }
+            if (exception.getDescription() != null) {
+                response.put("description", exception.getDescription());
+            }
+            if (exception.getLocation() != null) {
+                response.put("location", exception.getLocation());
+            }
+            if (exception.getLocationDetail() != null) {
+                response.put("locationDetail", exception.getLocationDetail());
+            }
+        }
+        
+        response.put("startDate", occurrenceStart);
+        response.put("endDate", occurrenceEnd);
+        response.put("occurrenceDate", occurrenceDate);
+        response.put("isOverridden", overridden);
+        return response;
+    }
+    
     /**
      * 일정을 응답 DTO로 변환
      */
@@ -172,7 +678,10 @@ public class ScheduleService {
         response.put("endDate", schedule.getEndDate());
         response.put("location", schedule.getLocation());
         response.put("locationDetail", schedule.getLocationDetail());
+        response.put("latitude", schedule.getLatitude());
+        response.put("longitude", schedule.getLongitude());
         response.put("maxAttendees", schedule.getMaxAttendees());
+        response.put("isFull", schedule.isFull());
         response.put("type", schedule.getType());
         response.put("isRecurring", schedule.getIsRecurring());
         response.put("recurrenceRule", schedule.getRecurrenceRule());
@@ -180,15 +689,53 @@ public class ScheduleService {
         response.put("creatorName", schedule.getCreatedBy().getName());
         response.put("createdAt", schedule.getCreatedAt());
         
-        // 참가자 정보 추가
-        List<Map<String, Object>> participants = schedule.getParticipants().stream()
-                .map(this::convertToParticipantResponse)
-                .collect(Collectors.toList());
-        response.put("participants", participants);
-        
         return response;
     }
     
+    /**
+     * 일정 응답 목록에 참가 현황 추가 (상태별 참가자 수 + 먼저 참석 응답한 N명)
+     * 일정마다 참가자를 지연 로딩하지 않도록 목록 전체를 집계 쿼리와 미리보기 쿼리로 한 번에 조회한다.
+     * 전체 참가자 목록은 참가자 목록 조회 API 로 페이지 단위로 조회한다.
+     */
+    private void attachRsvpSummaries(List<Map<String, Object>> scheduleResponses) {
+        if (scheduleResponses.isEmpty()) {
+            return;
+        }
+        Set<Long> scheduleIds = scheduleResponses.stream()
+                .map(response -> (Long) response.get("id"))
+                .collect(Collectors.toSet());
+        
+        // 일정별 상태별 참가자 수
+        Map<Long, Map<ScheduleParticipant.Status, Long>> countsBySchedule = new HashMap<>();
+        for (Object[] row : scheduleParticipantRepository.countGroupByScheduleIdAndStatus(scheduleIds)) {
+            countsBySchedule.computeIfAbsent((Long) row[0], id -> new EnumMap<>(ScheduleParticipant.Status.class))
+                    .put((ScheduleParticipant.Status) row[1], (Long) row[2]);
+        }
+        
+        // 일정별 참석자 미리보기
+        Map<Long, List<Map<String, Object>>> previewsBySchedule = new HashMap<>();
+        List<Long> previewIds = scheduleParticipantRepository.findFirstAttendingIdsByScheduleIds(scheduleIds, ATTENDEE_PREVIEW_SIZE);
+        if (!previewIds.isEmpty()) {
+            for (ScheduleParticipant participant : scheduleParticipantRepository.findAllWithUserByIdIn(previewIds)) {
+                previewsBySchedule.computeIfAbsent(participant.getSchedule().getId(), id -> new ArrayList<>())
+                        .add(convertToParticipantResponse(participant));
+            }
+        }
+        
+        for (Map<String, Object> response : scheduleResponses) {
+            Long scheduleId = (Long) response.get("id");
+            Map<ScheduleParticipant.Status, Long> counts = countsBySchedule.getOrDefault(scheduleId, Map.of());
+            Map<String, Long> rsvpCounts = new LinkedHashMap<>();
+            for (ScheduleParticipant.Status status : ScheduleParticipant.Status.values()) {
+                rsvpCounts.put(status.name(), counts.getOrDefault(status, 0L));
+            }
+            response.put("rsvpCounts", rsvpCounts);
+            response.put("attendingCount", rsvpCounts.get(ScheduleParticipant.Status.ATTENDING.name()));
+            response.put("participantCount", counts.values().stream().mapToLong(Long::longValue).sum());
+            response.put("participants", previewsBySchedule.getOrDefault(scheduleId, List.of()));
+        }
+    }
+    
     /**
      * 참가자를 응답 DTO로 변환
      */
@@ -196,6 +743,7 @@ public class ScheduleService {
         Map<String, Object> response = new HashMap<>();
         response.put("userId", participant.getUser().getId());
         response.put("userName", participant.getUser().getName());
+        response.put("profileImage", participant.getUser().getProfileImage());
         response.put("status", participant.getStatus());
         return response;
     }
@@ -0,0 +1,65 @@
+package com.moimlog.moimlog_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션용 커서 인코딩 유틸리티
+ * 마지막 항목의 정렬 키 값들을 "정렬기준|값1|값2..." 형태로 묶어 URL-safe Base64 로 인코딩한다.
+ * 클라이언트는 커서를 해석하지 않고 다음 요청에 그대로 전달하기만 하면 된다.
+ */
+public final class CursorUtil {
+    
+    private static final String DELIMITER = "|";
+    
+    private CursorUtil() {
+    }
+    
+    /**
+     * 정렬 기준과 정렬 키 값들로 커서 생성
+     */
+    public static String encode(String sortKey, Object... values) {
+        StringBuilder raw = new StringBuilder(sortKey);
+        for (Object value : values) {
+            raw.append(DELIMITER).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서를 정렬 키 값 목록으로 복원
+     * @param cursor 클라이언트가 전달한 커서
+     * @param sortKey 현재 요청의 정렬 기준 (다른 정렬의 커서는 거부)
+     * @param valueCount 정렬 키 값 개수
+     */
+    public static List<String> decode(String cursor, String sortKey, int valueCount) {
+        String raw = decodeRaw(cursor);
+        List<String> parts = List.of(raw.split("\\" + DELIMITER, -1));
+        if (parts.size() != valueCount + 1 || !parts.get(0).equals(sortKey)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return parts.subList(1, parts.size());
+    }
+    
+    /**
+     * 커서의 정렬 기준 조회 (요청 상황에 따라 정렬 방식이 달라지는 API 에서 이어서 조회할 방식 판단용)
+     */
+    public static String sortKeyOf(String cursor) {
+        String raw = decodeRaw(cursor);
+        int end = raw.indexOf(DELIMITER);
+        return end < 0 ? raw : raw.substring(0, end);
+    }
+    
+    /**
+     * Base64 커서를 원래 문자열로 복원
+     */
+    private static String decodeRaw(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
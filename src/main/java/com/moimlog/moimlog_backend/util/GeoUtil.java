@@ -0,0 +1,53 @@
+package com.moimlog.moimlog_backend.util;
+
+/**
+ * 위치(위도/경도) 계산 유틸리티
+ */
+public final class GeoUtil {
+    
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    // 위도 1도당 거리 (km)
+    public static final double KM_PER_DEGREE_LATITUDE = 111.32;
+    
+    private GeoUtil() {
+    }
+    
+    /**
+     * 두 지점 사이의 거리 계산 (haversine 공식, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+    
+    /**
+     * 반경을 위도 차이(도)로 변환
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE_LATITUDE;
+    }
+    
+    /**
+     * 특정 위도에서 반경을 경도 차이(도)로 변환 (극지방에서는 경도 전체)
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double kmPerDegree = KM_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(latitude));
+        if (kmPerDegree < 1e-6) {
+            return 180.0;
+        }
+        return Math.min(radiusKm / kmPerDegree, 180.0);
+    }
+    
+    /**
+     * 위도/경도 범위 검증
+     */
+    public static boolean isValidCoordinate(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90.0 && latitude <= 90.0
+                && longitude >= -180.0 && longitude <= 180.0;
+    }
+}
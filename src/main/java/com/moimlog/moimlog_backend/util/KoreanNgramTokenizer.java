@@ -0,0 +1,90 @@
+package com.moimlog.moimlog_backend.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 가능하도록 단어를 2-gram 으로 분해한다.
+ * (예: "독서모임" → "독서", "서모", "모임")
+ */
+public final class KoreanNgramTokenizer {
+    
+    private static final int GRAM_SIZE = 2;
+    
+    private KoreanNgramTokenizer() {
+    }
+    
+    /**
+     * 텍스트를 토큰 목록으로 분해 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        
+        for (String word : splitWords(text)) {
+            if (word.length() <= GRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 검색어를 중복 없는 토큰 집합으로 분해
+     */
+    public static Set<String> tokenizeQuery(String query) {
+        return new LinkedHashSet<>(tokenize(query));
+    }
+    
+    /**
+     * n-gram 색인으로 처리할 수 있는 검색어인지 여부
+     * 2-gram 보다 짧은 단어(예: "책")는 긴 단어의 2-gram 과 일치하지 않으므로 DB 부분 일치 검색으로 처리해야 한다.
+     */
+    public static boolean isIndexable(String query) {
+        if (query == null) {
+            return false;
+        }
+        List<String> words = splitWords(query);
+        if (words.isEmpty()) {
+            return false;
+        }
+        for (String word : words) {
+            if (word.length() < GRAM_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 문자/숫자 이외의 문자를 기준으로 단어 분리 (소문자 정규화)
+     */
+    public static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                words.add(current.toString().toLowerCase(Locale.ROOT));
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,384 @@
+package com.moimlog.moimlog_backend.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * 반복 일정 규칙 (RFC 5545 RRULE 의 일부)
+ * 지원: FREQ=DAILY|WEEKLY|MONTHLY|YEARLY, INTERVAL, COUNT, UNTIL, BYDAY(월간은 2TU, -1FR 같은 순번 포함), BYMONTHDAY
+ * 발생 일정은 저장하지 않고, 조회 구간 안의 시작 시각만 필요할 때 계산한다.
+ * COUNT 가 없는 규칙은 조회 구간 직전 주기로 건너뛰어 계산하므로 구간이 멀어도 비용이 일정하다.
+ */
+public final class RecurrenceRule {
+    
+    // 한 번의 전개에서 계산하는 최대 주기 수 (잘못된 규칙으로 인한 무한 반복 방지)
+    private static final int MAX_PERIODS = 10_000;
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+    
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    // BYDAY 항목 (순번 0 은 해당 요일 전체)
+    private final List<WeekdayNum> byDay;
+    private final List<Integer> byMonthDay;
+    
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until,
+                           List<WeekdayNum> byDay, List<Integer> byMonthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+    }
+    
+    /**
+     * 반복 규칙 문자열 해석 (예: "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH", 앞의 "RRULE:" 허용)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 지원하지 않는 규칙인 경우
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String value = rule.trim();
+        if (value.toUpperCase(Locale.ROOT).startsWith("RRULE:")) {
+            value = value.substring("RRULE:".length());
+        }
+        
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        List<WeekdayNum> byDay = new ArrayList<>();
+        List<Integer> byMonthDay = new ArrayList<>();
+        
+        try {
+            for (String part : value.split(";")) {
+                if (part.isBlank()) {
+                    continue;
+                }
+                String[] keyValue = part.split("=", 2);
+                if (keyValue.length != 2) {
+                    throw new IllegalArgumentException("잘못된 반복 규칙입니다: " + part);
+                }
+                String key = keyValue[0].trim().toUpperCase(Locale.ROOT);
+                String partValue = keyValue[1].trim().toUpperCase(Locale.ROOT);
+                switch (key) {
+                    case "FREQ" -> frequency = parseFrequency(partValue);
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "COUNT" -> count = Integer.parseInt(partValue);
+                    case "UNTIL" -> until = parseUntil(partValue);
+                    case "BYDAY" -> {
+                        for (String day : partValue.split(",")) {
+                            byDay.add(WeekdayNum.parse(day.trim()));
+                        }
+                    }
+                    case "BYMONTHDAY" -> {
+                        for (String day : partValue.split(",")) {
+                            int monthDay = Integer.parseInt(day.trim());
+                            if (monthDay == 0 || monthDay < -31 || monthDay > 31) {
+                                throw new IllegalArgumentException("잘못된 BYMONTHDAY 값입니다: " + day);
+                            }
+                            byMonthDay.add(monthDay);
+                        }
+                    }
+                    case "WKST" -> {
+                        if (!partValue.equals("MO")) {
+                            throw new IllegalArgumentException("WKST 는 MO 만 지원합니다.");
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + key);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 반복 규칙 숫자입니다: " + rule);
+        }
+        
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 규칙에 FREQ 가 없습니다.");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("INTERVAL 은 1 이상이어야 합니다.");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT 는 1 이상이어야 합니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT 와 UNTIL 은 함께 사용할 수 없습니다.");
+        }
+        if (!byMonthDay.isEmpty() && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY 는 월간 반복에서만 지원합니다.");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYDAY 는 주간/월간 반복에서만 지원합니다.");
+        }
+        if (frequency == Frequency.WEEKLY && byDay.stream().anyMatch(day -> day.ordinal != 0)) {
+            throw new IllegalArgumentException("주간 반복의 BYDAY 에는 순번을 사용할 수 없습니다.");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, List.copyOf(byDay), List.copyOf(byMonthDay));
+    }
+    
+    /**
+     * 조회 구간 [windowStart, windowEnd] 안에 시작하는 발생 시각 목록 (오름차순)
+     * @param dtStart 반복 일정의 첫 시작 시각 (원본 일정의 시작 시각, 첫 발생에 포함)
+     * @param maxOccurrences 반환할 최대 발생 수
+     */
+    public List<LocalDateTime> occurrencesBetween(LocalDateTime dtStart, LocalDateTime windowStart,
+                                                  LocalDateTime windowEnd, int maxOccurrences) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        if (windowEnd.isBefore(windowStart) || windowEnd.isBefore(dtStart)) {
+            return occurrences;
+        }
+        
+        // COUNT 는 첫 발생부터 세어야 하므로 건너뛰지 않음
+        long period = count == null ? firstPeriodNear(dtStart, windowStart) : 0;
+        int generated = 0;
+        for (int i = 0; i < MAX_PERIODS; i++, period++) {
+            LocalDate periodStart = periodStart(dtStart.toLocalDate(), period);
+            if (periodLowerBound(periodStart).atStartOfDay().isAfter(windowEnd)) {
+                break;
+            }
+            for (LocalDate date : candidates(dtStart.toLocalDate(), periodStart)) {
+                LocalDateTime occurrence = date.atTime(dtStart.toLocalTime());
+                if (occurrence.isBefore(dtStart)) {
+                    continue;
+                }
+                if (until != null && occurrence.isAfter(until)) {
+                    return occurrences;
+                }
+                if (count != null && ++generated > count) {
+                    return occurrences;
+                }
+                if (occurrence.isAfter(windowEnd)) {
+                    return occurrences;
+                }
+                if (!occurrence.isBefore(windowStart)) {
+                    occurrences.add(occurrence);
+                    if (occurrences.size() >= maxOccurrences) {
+                        return occurrences;
+                    }
+                }
+            }
+        }
+        return occurrences;
+    }
+    
+    /**
+     * 해당 시각이 반복 규칙의 발생 시각인지 확인
+     */
+    public boolean isOccurrence(LocalDateTime dtStart, LocalDateTime candidate) {
+        return occurrencesBetween(dtStart, candidate, candidate, 1).contains(candidate);
+    }
+    
+    /**
+     * 반복이 끝나는 시각 (COUNT 는 마지막 회차 시작 시각, UNTIL 은 UNTIL 시각)
+     * 끝나지 않는 규칙이거나 계산 한도 안에서 COUNT 를 다 채우지 못하면 null (종료 없음으로 취급)
+     * 조회 구간보다 먼저 끝난 반복 일정을 조회 대상에서 거르는 데 사용한다.
+     */
+    public LocalDateTime seriesEnd(LocalDateTime dtStart) {
+        if (until != null) {
+            return until;
+        }
+        if (count == null) {
+            return null;
+        }
+        List<LocalDateTime> occurrences = occurrencesBetween(dtStart, dtStart, LocalDateTime.MAX, count);
+        return occurrences.size() < count ? null : occurrences.get(occurrences.size() - 1);
+    }
+    
+    /**
+     * 조회 구간 시작 직전의 주기 번호 (해당 주기부터 계산해도 구간 안의 발생을 놓치지 않음)
+     */
+    private long firstPeriodNear(LocalDateTime dtStart, LocalDateTime windowStart) {
+        if (!windowStart.isAfter(dtStart)) {
+            return 0;
+        }
+        LocalDate start = dtStart.toLocalDate();
+        LocalDate target = windowStart.toLocalDate();
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, target);
+            case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(target));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(target));
+            case YEARLY -> target.getYear() - start.getYear();
+        };
+        return Math.max(0, units / interval - 1);
+    }
+    
+    /**
+     * 주기 번호의 기준 날짜 (주간은 첫 시작일의 요일 유지, 월간/연간은 해당 월/연의 1일)
+     */
+    private LocalDate periodStart(LocalDate start, long period) {
+        long units = period * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(units);
+            case WEEKLY -> start.plusWeeks(units);
+            case MONTHLY -> start.withDayOfMonth(1).plusMonths(units);
+            case YEARLY -> start.withDayOfYear(1).plusYears(units);
+        };
+    }
+    
+    /**
+     * 주기 안에서 가장 이른 날짜 (이 날짜가 조회 구간을 넘으면 이후 주기는 계산하지 않음)
+     */
+    private LocalDate periodLowerBound(LocalDate periodStart) {
+        return frequency == Frequency.WEEKLY ? weekStart(periodStart) : periodStart;
+    }
+    
+    /**
+     * 주기 안의 발생 날짜 후보 (오름차순)
+     */
+    private List<LocalDate> candidates(LocalDate start, LocalDate periodStart) {
+        switch (frequency) {
+            case DAILY:
+                return List.of(periodStart);
+            case WEEKLY: {
+                if (byDay.isEmpty()) {
+                    return List.of(periodStart);
+                }
+                LocalDate monday = weekStart(periodStart);
+                TreeSet<LocalDate> dates = new TreeSet<>();
+                for (WeekdayNum day : byDay) {
+                    dates.add(monday.plusDays(day.dayOfWeek.getValue() - 1));
+                }
+                return new ArrayList<>(dates);
+            }
+            case MONTHLY: {
+                YearMonth month = YearMonth.from(periodStart);
+                TreeSet<LocalDate> dates = new TreeSet<>();
+                if (!byMonthDay.isEmpty()) {
+                    for (int monthDay : byMonthDay) {
+                        int day = monthDay > 0 ? monthDay : month.lengthOfMonth() + monthDay + 1;
+                        if (day >= 1 && day <= month.lengthOfMonth()) {
+                            dates.add(month.atDay(day));
+                        }
+                    }
+                } else if (!byDay.isEmpty()) {
+                    for (WeekdayNum day : byDay) {
+                        dates.addAll(day.datesIn(month));
+                    }
+                } else if (start.getDayOfMonth() <= month.lengthOfMonth()) {
+                    // 해당 일자가 없는 달(31일 등)은 건너뜀
+                    dates.add(month.atDay(start.getDayOfMonth()));
+                }
+                return new ArrayList<>(dates);
+            }
+            case YEARLY: {
+                YearMonth month = YearMonth.of(periodStart.getYear(), start.getMonth());
+                if (start.getDayOfMonth() > month.lengthOfMonth()) {
+                    // 2월 29일 시작 일정은 윤년에만 발생
+                    return List.of();
+                }
+                return List.of(month.atDay(start.getDayOfMonth()));
+            }
+            default:
+                return List.of();
+        }
+    }
+    
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+    
+    private static Frequency parseFrequency(String value) {
+        return switch (value) {
+            case "DAILY" -> Frequency.DAILY;
+            case "WEEKLY" -> Frequency.WEEKLY;
+            case "MONTHLY" -> Frequency.MONTHLY;
+            case "YEARLY" -> Frequency.YEARLY;
+            default -> throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + value);
+        };
+    }
+    
+    /**
+     * UNTIL 값 해석 (일정 시각은 서버 시간대 기준이므로 "...Z" UTC 시각은 서버 시간대로 변환)
+     */
+    private static LocalDateTime parseUntil(String value) {
+        try {
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), UNTIL_DATE_TIME)
+                        .atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            }
+            if (value.contains("T")) {
+                return LocalDateTime.parse(value, UNTIL_DATE_TIME);
+            }
+            // 날짜만 지정한 경우 해당 날짜 전체 포함
+            return LocalDate.parse(value, UNTIL_DATE).atTime(LocalTime.MAX);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 UNTIL 값입니다: " + value);
+        }
+    }
+    
+    /**
+     * BYDAY 항목 (순번 + 요일, 예: 2TU = 둘째 화요일, -1FR = 마지막 금요일, MO = 모든 월요일)
+     */
+    private static class WeekdayNum {
+        private final int ordinal;
+        private final DayOfWeek dayOfWeek;
+        
+        private WeekdayNum(int ordinal, DayOfWeek dayOfWeek) {
+            this.ordinal = ordinal;
+            this.dayOfWeek = dayOfWeek;
+        }
+        
+        private static WeekdayNum parse(String value) {
+            if (value.length() < 2) {
+                throw new IllegalArgumentException("잘못된 BYDAY 값입니다: " + value);
+            }
+            String dayCode = value.substring(value.length() - 2);
+            String ordinalPart = value.substring(0, value.length() - 2);
+            int ordinal = ordinalPart.isEmpty() ? 0 : Integer.parseInt(ordinalPart.replace("+", ""));
+            if (ordinal < -5 || ordinal > 5) {
+                throw new IllegalArgumentException("잘못된 BYDAY 순번입니다: " + value);
+            }
+            DayOfWeek dayOfWeek = switch (dayCode) {
+                case "MO" -> DayOfWeek.MONDAY;
+                case "TU" -> DayOfWeek.TUESDAY;
+                case "WE" -> DayOfWeek.WEDNESDAY;
+                case "TH" -> DayOfWeek.THURSDAY;
+                case "FR" -> DayOfWeek.FRIDAY;
+                case "SA" -> DayOfWeek.SATURDAY;
+                case "SU" -> DayOfWeek.SUNDAY;
+                default -> throw new IllegalArgumentException("잘못된 BYDAY 요일입니다: " + value);
+            };
+            return new WeekdayNum(ordinal, dayOfWeek);
+        }
+        
+        /**
+         * 해당 월에서 이 항목에 해당하는 날짜들
+         */
+        private List<LocalDate> datesIn(YearMonth month) {
+            List<LocalDate> all = new ArrayList<>();
+            LocalDate date = month.atDay(1).with(TemporalAdjusters.nextOrSame(dayOfWeek));
+            while (!date.isAfter(month.atEndOfMonth())) {
+                all.add(date);
+                date = date.plusWeeks(1);
+            }
+            if (ordinal == 0) {
+                return all;
+            }
+            int index = ordinal > 0 ? ordinal - 1 : all.size() + ordinal;
+            return index >= 0 && index < all.size() ? List.of(all.get(index)) : List.of();
+        }
+    }
+}
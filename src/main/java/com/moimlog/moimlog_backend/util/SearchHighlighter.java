@@ -0,0 +1,126 @@
+package com.moimlog.moimlog_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 하이라이트 유틸리티
+ * 검색어 단어가 나오는 구간을 &lt;em&gt; 태그로 감싸고, 나머지 텍스트는 HTML 이스케이프한다.
+ * 본문은 첫 일치 위치 주변만 잘라 스니펫으로 만든다.
+ */
+public final class SearchHighlighter {
+    
+    private static final String ELLIPSIS = "...";
+    
+    private SearchHighlighter() {
+    }
+    
+    /**
+     * 텍스트 전체 하이라이트 (제목용)
+     */
+    public static String highlight(String text, String query) {
+        if (text == null) {
+            return null;
+        }
+        return render(text, findMatches(text, KoreanNgramTokenizer.splitWords(query)), 0, text.length());
+    }
+    
+    /**
+     * 첫 일치 위치 주변을 잘라낸 하이라이트 스니펫 (본문용)
+     * @param maxLength 스니펫 최대 길이 (말줄임표 제외)
+     */
+    public static String snippet(String text, String query, int maxLength) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> matches = findMatches(text, KoreanNgramTokenizer.splitWords(query));
+        
+        // 첫 일치 구간이 스니펫 앞쪽 1/4 지점에 오도록 시작 위치 결정
+        int start = 0;
+        if (!matches.isEmpty()) {
+            start = Math.max(0, matches.get(0)[0] - maxLength / 4);
+        }
+        int end = Math.min(text.length(), start + maxLength);
+        start = Math.max(0, Math.min(start, end - maxLength));
+        
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        snippet.append(render(text, matches, start, end));
+        if (end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+    
+    /**
+     * 검색어 단어의 일치 구간 탐색 (대소문자 무시, 겹치는 구간은 병합, 시작 위치 순)
+     */
+    private static List<int[]> findMatches(String text, List<String> words) {
+        boolean[] matched = new boolean[text.length()];
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i + word.length() <= text.length(); i++) {
+                if (text.regionMatches(true, i, word, 0, word.length())) {
+                    for (int j = i; j < i + word.length(); j++) {
+                        matched[j] = true;
+                    }
+                }
+            }
+        }
+        
+        List<int[]> ranges = new ArrayList<>();
+        int i = 0;
+        while (i < matched.length) {
+            if (!matched[i]) {
+                i++;
+                continue;
+            }
+            int rangeStart = i;
+            while (i < matched.length && matched[i]) {
+                i++;
+            }
+            ranges.add(new int[]{rangeStart, i});
+        }
+        return ranges;
+    }
+    
+    /**
+     * [start, end) 구간을 이스케이프하며 일치 구간만 &lt;em&gt; 으로 감싸 출력
+     */
+    private static String render(String text, List<int[]> matches, int start, int end) {
+        StringBuilder result = new StringBuilder();
+        int position = start;
+        for (int[] match : matches) {
+            int matchStart = Math.max(match[0], start);
+            int matchEnd = Math.min(match[1], end);
+            if (matchStart >= matchEnd) {
+                continue;
+            }
+            appendEscaped(result, text, position, matchStart);
+            result.append("<em>");
+            appendEscaped(result, text, matchStart, matchEnd);
+            result.append("</em>");
+            position = matchEnd;
+        }
+        appendEscaped(result, text, position, end);
+        return result.toString();
+    }
+    
+    private static void appendEscaped(StringBuilder target, String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '&' -> target.append("&amp;");
+                case '"' -> target.append("&quot;");
+                case '\'' -> target.append("&#39;");
+                default -> target.append(c);
+            }
+        }
+    }
+}
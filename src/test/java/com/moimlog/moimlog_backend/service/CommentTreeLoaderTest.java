@@ -0,0 +1,124 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.CommentPageResponse;
+import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import com.moimlog.moimlog_backend.entity.Comment;
+import com.moimlog.moimlog_backend.entity.User;
+import com.moimlog.moimlog_backend.repository.CommentLikeRepository;
+import com.moimlog.moimlog_backend.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentTreeLoaderTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    @InjectMocks
+    private CommentTreeLoader commentTreeLoader;
+
+    private final User author = User.builder().id(10L).name("작성자").build();
+
+    @Test
+    @DisplayName("전체 댓글 트리 - 부모 ID 기준으로 답글을 중첩하고 좋아요 여부를 한 번에 표시")
+    void loadTree_AssemblesRepliesByParentId() {
+        // given
+        Comment first = comment(1L, null);
+        Comment reply = comment(2L, first);
+        Comment nestedReply = comment(3L, reply);
+        Comment second = comment(4L, null);
+        when(commentRepository.findAllWithAuthorByPostId(POST_ID))
+                .thenReturn(List.of(first, reply, nestedReply, second));
+        when(commentLikeRepository.findLikedCommentIds(eq(USER_ID), anyCollection())).thenReturn(List.of(3L));
+
+        // when
+        List<PostResponse.CommentResponse> roots = commentTreeLoader.loadTree(POST_ID, USER_ID);
+
+        // then
+        assertThat(roots).extracting(PostResponse.CommentResponse::getId).containsExactly(1L, 4L);
+        PostResponse.CommentResponse replyNode = roots.get(0).getReplies().get(0);
+        assertThat(replyNode.getId()).isEqualTo(2L);
+        assertThat(roots.get(0).getReplyCount()).isEqualTo(1);
+        assertThat(replyNode.getReplies()).extracting(PostResponse.CommentResponse::getId).containsExactly(3L);
+        assertThat(replyNode.getReplies().get(0).getLikedByMe()).isTrue();
+        assertThat(replyNode.getLikedByMe()).isFalse();
+        assertThat(roots.get(1).getReplies()).isEmpty();
+        verify(commentLikeRepository).findLikedCommentIds(eq(USER_ID), anyCollection());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 페이지 - 답글 미리보기와 답글 수를 붙이고 비로그인이면 좋아요를 조회하지 않음")
+    void loadTopLevelPage_AttachesReplyPreviews() {
+        // given
+        Comment first = comment(1L, null);
+        Comment second = comment(4L, null);
+        Comment firstReply = comment(2L, first);
+        Comment secondReply = comment(5L, second);
+        when(commentRepository.findTopLevelWithAuthorByPostId(eq(POST_ID), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second), PageRequest.of(0, 2), 3));
+        when(commentRepository.findFirstReplyIdsByParentIdIn(anyCollection(), eq(CommentTreeLoader.REPLY_PREVIEW_SIZE)))
+                .thenReturn(List.of(2L, 5L));
+        when(commentRepository.findAllWithAuthorByIdIn(anyCollection())).thenReturn(List.of(firstReply, secondReply));
+        when(commentRepository.countRepliesGroupByParentId(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 5L},
+                new Object[]{4L, 1L},
+                new Object[]{2L, 2L}));
+
+        // when
+        CommentPageResponse page = commentTreeLoader.loadTopLevelPage(POST_ID, null, 1, 2);
+
+        // then
+        Map<Long, PostResponse.CommentResponse> comments = page.getComments().stream()
+                .collect(Collectors.toMap(PostResponse.CommentResponse::getId, Function.identity()));
+        assertThat(page.getComments()).extracting(PostResponse.CommentResponse::getId).containsExactly(1L, 4L);
+        // 답글 수는 미리보기 수가 아닌 전체 답글 수
+        assertThat(comments.get(1L).getReplyCount()).isEqualTo(5);
+        assertThat(comments.get(1L).getReplies()).extracting(PostResponse.CommentResponse::getId).containsExactly(2L);
+        assertThat(comments.get(1L).getReplies().get(0).getReplyCount()).isEqualTo(2);
+        assertThat(comments.get(4L).getReplyCount()).isEqualTo(1);
+        assertThat(comments.get(4L).getReplies()).extracting(PostResponse.CommentResponse::getId).containsExactly(5L);
+        assertThat(comments.get(4L).getReplies().get(0).getReplyCount()).isZero();
+        assertThat(page.getPagination().getHasNext()).isTrue();
+        assertThat(page.getPagination().getTotalElements()).isEqualTo(3L);
+        verify(commentLikeRepository, never()).findLikedCommentIds(anyLong(), anyCollection());
+    }
+
+    private Comment comment(Long id, Comment parent) {
+        return Comment.builder()
+                .id(id)
+                .author(author)
+                .parent(parent)
+                .content("댓글 " + id)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id))
+                .build();
+    }
+}
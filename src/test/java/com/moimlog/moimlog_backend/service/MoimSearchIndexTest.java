@@ -0,0 +1,124 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.repository.MoimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MoimSearchIndexTest {
+
+    @Mock
+    private MoimRepository moimRepository;
+
+    private MoimSearchIndex moimSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        moimSearchIndex = new MoimSearchIndex(moimRepository);
+        moimSearchIndex.index(moim(1L, "주말 독서모임", "한 달에 두 권 읽는 모임", "[\"책\",\"독서\"]"));
+        moimSearchIndex.index(moim(2L, "러닝 크루", "한강에서 함께 달려요. 독서도 가끔 해요", "[\"운동\"]"));
+        moimSearchIndex.index(moim(3L, "Java 스터디", "스프링 부트 공부", "[\"개발\",\"java\"]"));
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 검색 - 제목 일치가 설명 일치보다 우선")
+    void search_PartialKoreanMatch_RankedByField() {
+        // when
+        List<Long> result = moimSearchIndex.search("독서", 10);
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 모임만 반환")
+    void search_RequiresAllTokens() {
+        // when
+        List<Long> result = moimSearchIndex.search("독서모임", 10);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("영문 검색은 대소문자를 구분하지 않음")
+    void search_IgnoresCase() {
+        // when
+        List<Long> result = moimSearchIndex.search("JAVA", 10);
+
+        // then
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재색인 시 기존 토큰 제거")
+    void index_ReplacesPreviousTokens() {
+        // given
+        moimSearchIndex.index(moim(1L, "주말 등산모임", "산에 갑니다", null));
+
+        // when & then
+        assertThat(moimSearchIndex.search("독서모임", 10)).isEmpty();
+        assertThat(moimSearchIndex.search("등산", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("비활성 모임은 색인에서 제외")
+    void index_InactiveMoimRemoved() {
+        // given
+        Moim inactive = moim(3L, "Java 스터디", "스프링 부트 공부", null);
+        inactive.setIsActive(false);
+
+        // when
+        moimSearchIndex.index(inactive);
+
+        // then
+        assertThat(moimSearchIndex.search("java", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인 대신 DB 부분 일치 검색으로 처리")
+    void supports_ShortQueryFallsBackToDatabase() {
+        // given
+        when(moimRepository.findByIsActiveTrue(any(Pageable.class))).thenReturn(Page.empty());
+        moimSearchIndex.rebuild();
+        moimSearchIndex.index(moim(4L, "책모임", "매주 한 권", null));
+
+        // when & then
+        assertThat(moimSearchIndex.search("책", 10)).doesNotContain(4L);
+        assertThat(moimSearchIndex.supports("책")).isFalse();
+        assertThat(moimSearchIndex.supports("책 모임")).isFalse();
+        assertThat(moimSearchIndex.supports("책모")).isTrue();
+        assertThat(moimSearchIndex.search("책모", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 DB 검색으로 처리")
+    void supports_NotReadyBeforeRebuild() {
+        // when & then
+        assertThat(moimSearchIndex.supports("독서모임")).isFalse();
+    }
+
+    private Moim moim(Long id, String title, String description, String tags) {
+        return Moim.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .tags(tags)
+                .maxMembers(10)
+                .onlineType(Moim.OnlineType.OFFLINE)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    private final PostDetailCache postDetailCache = new PostDetailCache();
+
+    @Test
+    @DisplayName("상세 캐시 - 요청별로 덮어쓴 좋아요 여부와 카운터는 캐시 원본에 남지 않음")
+    void get_ReturnsDeepCopy() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        PostResponse first = postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return postDetail();
+        });
+
+        // when
+        first.setViewCount(100);
+        first.setLikeCount(50);
+        first.setLikedByMe(true);
+        first.getComments().get(0).setLikedByMe(true);
+        first.getComments().get(0).getReplies().get(0).setLikedByMe(true);
+        first.getComments().get(0).getReplies().add(comment(4L, 2L));
+        PostResponse second = postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return postDetail();
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getViewCount()).isEqualTo(0);
+        assertThat(second.getLikeCount()).isEqualTo(0);
+        assertThat(second.getLikedByMe()).isFalse();
+        assertThat(second.getComments().get(0).getLikedByMe()).isFalse();
+        assertThat(second.getComments().get(0).getReplies())
+                .extracting(PostResponse.CommentResponse::getId)
+                .containsExactly(3L);
+        assertThat(second.getComments().get(0).getReplies().get(0).getLikedByMe()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상세 캐시 - 조립 중 무효화되면 조립한 응답을 저장하지 않음")
+    void get_DoesNotStoreLoadInvalidatedWhileLoading() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        PostResponse stale = postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            PostResponse loaded = postDetail();
+            // 조립하는 사이 댓글 작성이 커밋된 상황
+            postDetailCache.invalidateNow(POST_ID);
+            return loaded;
+        });
+        postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return postDetail();
+        });
+
+        // then
+        assertThat(stale).isNotNull();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상세 캐시 - 트랜잭션 밖에서 무효화하면 다음 조회에서 다시 조립")
+    void invalidate_WithoutTransactionReloads() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return postDetail();
+        });
+
+        // when
+        postDetailCache.invalidate(POST_ID);
+        postDetailCache.get(POST_ID, () -> {
+            loads.incrementAndGet();
+            return postDetail();
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(postDetailCache.getStats()).containsEntry("invalidations", 1L);
+    }
+
+    private PostResponse postDetail() {
+        PostResponse.CommentResponse root = comment(2L, null);
+        root.getReplies().add(comment(3L, 2L));
+        root.setReplyCount(1);
+        List<PostResponse.CommentResponse> comments = new ArrayList<>();
+        comments.add(root);
+        return PostResponse.builder()
+                .id(POST_ID)
+                .moimId(1L)
+                .title("공지")
+                .viewCount(0)
+                .likeCount(0)
+                .commentCount(2)
+                .likedByMe(false)
+                .images(new ArrayList<>())
+                .comments(comments)
+                .build();
+    }
+
+    private PostResponse.CommentResponse comment(Long id, Long parentId) {
+        return PostResponse.CommentResponse.builder()
+                .id(id)
+                .content("댓글 " + id)
+                .likeCount(0)
+                .likedByMe(false)
+                .parentId(parentId)
+                .replyCount(0)
+                .replies(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,230 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.dto.response.PostResponse;
+import com.moimlog.moimlog_backend.dto.response.PostSearchResponse;
+import com.moimlog.moimlog_backend.entity.Moim;
+import com.moimlog.moimlog_backend.entity.Post;
+import com.moimlog.moimlog_backend.entity.User;
+import com.moimlog.moimlog_backend.repository.PostLikeRepository;
+import com.moimlog.moimlog_backend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+
+    private static final Long MOIM_ID = 1L;
+    private static final Long POST_ID = 3L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostViewCountAggregator postViewCountAggregator;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private CommentTreeLoader commentTreeLoader;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @InjectMocks
+    private PostService postService;
+
+    private Map<Long, Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        Moim moim = Moim.builder().id(MOIM_ID).build();
+        User author = User.builder().id(10L).name("작성자").build();
+        posts = Stream.of(
+                        post(1L, moim, author, "독서 후기", "지난주 독서모임 후기"),
+                        post(2L, moim, author, "자유글", "독서 이야기"),
+                        post(3L, moim, author, "독서모임 독서 목록", "이번 달 독서 목록"))
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 색인 관련도 순서를 유지")
+    void searchPosts_KeepsRelevanceOrder() {
+        // given
+        when(postSearchIndex.search(MOIM_ID, "독서")).thenReturn(Optional.of(List.of(
+                new PostSearchIndex.ScoredPost(3L, 9.0),
+                new PostSearchIndex.ScoredPost(1L, 4.0),
+                new PostSearchIndex.ScoredPost(2L, 1.0))));
+        stubFindAllWithAuthor();
+
+        // when
+        PostSearchResponse response = postService.searchPosts(MOIM_ID, null, "독서", null, 10);
+
+        // then
+        assertThat(response.getResults())
+                .extracting(result -> result.getPost().getId())
+                .containsExactly(3L, 1L, 2L);
+        assertThat(response.getResults().get(0).getHighlightedTitle())
+                .isEqualTo("<em>독서</em>모임 <em>독서</em> 목록");
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 커서로 이어서 조회하면 같은 점수는 ID 내림차순으로 이어짐")
+    void searchPosts_CursorContinuesAfterLastResult() {
+        // given
+        when(postSearchIndex.search(MOIM_ID, "독서")).thenReturn(Optional.of(List.of(
+                new PostSearchIndex.ScoredPost(3L, 9.0),
+                new PostSearchIndex.ScoredPost(2L, 4.0),
+                new PostSearchIndex.ScoredPost(1L, 4.0))));
+        stubFindAllWithAuthor();
+
+        // when
+        PostSearchResponse first = postService.searchPosts(MOIM_ID, null, "독서", null, 2);
+        PostSearchResponse second = postService.searchPosts(MOIM_ID, null, "독서", first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getResults())
+                .extracting(result -> result.getPost().getId())
+                .containsExactly(3L, 2L);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(second.getResults())
+                .extracting(result -> result.getPost().getId())
+                .containsExactly(1L);
+        assertThat(second.getHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 색인 준비 전에는 DB 검색으로 대체하고 같은 방식으로 이어서 조회")
+    void searchPosts_FallsBackToKeywordSearch() {
+        // given
+        when(postSearchIndex.search(MOIM_ID, "독서")).thenReturn(Optional.empty());
+        when(postRepository.findWithAuthorBySearchKeyword(eq(MOIM_ID), eq("독서"), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(posts.get(3L), posts.get(2L)));
+        when(postRepository.findWithAuthorBySearchKeyword(eq(MOIM_ID), eq("독서"), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(posts.get(2L)));
+
+        // when
+        PostSearchResponse first = postService.searchPosts(MOIM_ID, null, "독서", null, 1);
+        PostSearchResponse second = postService.searchPosts(MOIM_ID, null, "독서", first.getNextCursor(), 1);
+
+        // then
+        assertThat(first.getResults())
+                .extracting(result -> result.getPost().getId())
+                .containsExactly(3L);
+        assertThat(first.getResults().get(0).getScore()).isNull();
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(second.getResults())
+                .extracting(result -> result.getPost().getId())
+                .containsExactly(2L);
+        assertThat(second.getHasNext()).isFalse();
+        // 대체 검색 커서로 이어서 조회할 때는 색인을 다시 찾지 않음
+        verify(postSearchIndex, times(1)).search(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - 캐시된 응답의 댓글 수가 현재와 다르면 캐시를 비우고 다시 조립")
+    void getPostDetail_RebuildsWhenCommentCountChanged() {
+        // given
+        PostResponse stale = postDetail(1);
+        PostResponse fresh = postDetail(2);
+        when(postDetailCache.get(eq(POST_ID), any())).thenReturn(stale, fresh);
+        when(postRepository.findCountersById(POST_ID)).thenReturn(List.<Object[]>of(new Object[]{5, 7, 2}));
+        when(postViewCountAggregator.getViewCount(POST_ID, 5)).thenReturn(6);
+        when(postLikeRepository.existsByPostIdAndUserId(POST_ID, 10L)).thenReturn(true);
+
+        // when
+        PostResponse response = postService.getPostDetail(POST_ID, MOIM_ID, 10L);
+
+        // then
+        assertThat(response).isSameAs(fresh);
+        assertThat(response.getCommentCount()).isEqualTo(2);
+        assertThat(response.getViewCount()).isEqualTo(6);
+        assertThat(response.getLikeCount()).isEqualTo(7);
+        assertThat(response.getLikedByMe()).isTrue();
+        verify(postDetailCache).invalidateNow(POST_ID);
+        verify(postDetailCache, times(2)).get(eq(POST_ID), any());
+        verify(commentTreeLoader).markLikedComments(fresh.getComments(), 10L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - 댓글 수가 같으면 캐시된 응답에 현재 카운터만 덮어씀")
+    void getPostDetail_KeepsCachedResponseWhenCommentCountMatches() {
+        // given
+        PostResponse cached = postDetail(2);
+        when(postDetailCache.get(eq(POST_ID), any())).thenReturn(cached);
+        when(postRepository.findCountersById(POST_ID)).thenReturn(List.<Object[]>of(new Object[]{5, 7, 2}));
+        when(postViewCountAggregator.getViewCount(POST_ID, 5)).thenReturn(6);
+
+        // when
+        PostResponse response = postService.getPostDetail(POST_ID, MOIM_ID, null);
+
+        // then
+        assertThat(response).isSameAs(cached);
+        assertThat(response.getViewCount()).isEqualTo(6);
+        assertThat(response.getLikedByMe()).isFalse();
+        verify(postDetailCache, never()).invalidateNow(anyLong());
+        verify(postViewCountAggregator).increment(POST_ID);
+    }
+
+    private PostResponse postDetail(int commentCount) {
+        return PostResponse.builder()
+                .id(POST_ID)
+                .moimId(MOIM_ID)
+                .title("독서모임 독서 목록")
+                .viewCount(0)
+                .likeCount(0)
+                .commentCount(commentCount)
+                .likedByMe(false)
+                .comments(new ArrayList<>())
+                .build();
+    }
+
+    private void stubFindAllWithAuthor() {
+        when(postRepository.findAllWithAuthorByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().sorted().map(posts::get).toList();
+        });
+    }
+
+    private Post post(Long id, Moim moim, User author, String title, String content) {
+        return Post.builder()
+                .id(id)
+                .moim(moim)
+                .author(author)
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.moimlog.moimlog_backend.service;
+
+import com.moimlog.moimlog_backend.entity.Schedule;
+import com.moimlog.moimlog_backend.entity.ScheduleParticipant;
+import com.moimlog.moimlog_backend.entity.User;
+import com.moimlog.moimlog_backend.repository.ScheduleParticipantRepository;
+import com.moimlog.moimlog_backend.repository.ScheduleRepository;
+import com.moimlog.moimlog_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final int MAX_ATTENDEES = 10;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ScheduleParticipantRepository scheduleParticipantRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ScheduleService scheduleService;
+
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = Schedule.builder()
+                .id(SCHEDULE_ID)
+                .title("정원 10명 모임")
+                .startDate(LocalDateTime.of(2024, 1, 1, 19, 0))
+                .maxAttendees(MAX_ATTENDEES)
+                .attendingCount(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("동시 참석 신청 - claimSeat 이 자리를 내준 요청만 참석, 0 을 받은 요청은 대기")
+    void participateSchedule_ConcurrentRequests_HonourClaimSeatResult() throws Exception {
+        // given
+        // 정원 보장 자체는 claimSeat 의 조건부 UPDATE(행 잠금)가 담당하므로 여기서는 CAS 로 흉내 내고,
+        // 서비스가 claimSeat 결과만으로 참석/대기를 나누고 추가로 자리를 잡지 않는지 확인한다.
+        int requestCount = 50;
+        AtomicInteger attendingCount = new AtomicInteger(1);
+        Map<Long, ScheduleParticipant.Status> inserted = new ConcurrentHashMap<>();
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            return Optional.of(User.builder().id(userId).name("사용자" + userId).build());
+        });
+        when(scheduleParticipantRepository.findByScheduleIdAndUserId(eq(SCHEDULE_ID), anyLong()))
+                .thenReturn(Optional.empty());
+        // 조건부 UPDATE 와 같은 의미: 남은 자리가 있을 때만 1 증가
+        when(scheduleRepository.claimSeat(SCHEDULE_ID)).thenAnswer(invocation -> {
+            while (true) {
+                int current = attendingCount.get();
+                if (current >= MAX_ATTENDEES) {
+                    return 0;
+                }
+                if (attendingCount.compareAndSet(current, current + 1)) {
+                    return 1;
+                }
+            }
+        });
+        when(scheduleParticipantRepository.insertIfAbsent(eq(SCHEDULE_ID), anyLong(), anyString()))
+                .thenAnswer(invocation -> {
+                    Long userId = invocation.getArgument(1);
+                    String status = invocation.getArgument(2);
+                    return inserted.putIfAbsent(userId, ScheduleParticipant.Status.valueOf(status)) == null ? 1 : 0;
+                });
+        when(scheduleRepository.findAttendingCountById(SCHEDULE_ID)).thenAnswer(invocation -> attendingCount.get());
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Map<String, Object>>> results = new ArrayList<>();
+        for (long userId = 100; userId < 100 + requestCount; userId++) {
+            long requester = userId;
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                return scheduleService.participateSchedule(SCHEDULE_ID, requester, ScheduleParticipant.Status.ATTENDING);
+            }));
+        }
+        startSignal.countDown();
+        for (Future<Map<String, Object>> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(attendingCount.get()).isEqualTo(MAX_ATTENDEES);
+        assertThat(inserted.values().stream().filter(status -> status == ScheduleParticipant.Status.ATTENDING))
+                .hasSize(MAX_ATTENDEES - 1);
+        assertThat(inserted.values().stream().filter(status -> status == ScheduleParticipant.Status.WAITLISTED))
+                .hasSize(requestCount - (MAX_ATTENDEES - 1));
+    }
+
+    @Test
+    @DisplayName("참석 취소 - 자리를 반납하고 첫 번째 대기자를 참석으로 전환")
+    void participateSchedule_Cancel_PromotesWaitlisted() {
+        // given
+        User user = User.builder().id(2L).name("참석자").build();
+        ScheduleParticipant attending = ScheduleParticipant.builder()
+                .id(10L).schedule(schedule).user(user).status(ScheduleParticipant.Status.ATTENDING).build();
+        ScheduleParticipant waitlisted = ScheduleParticipant.builder()
+                .id(20L).schedule(schedule).status(ScheduleParticipant.Status.WAITLISTED).build();
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(scheduleParticipantRepository.findByScheduleIdAndUserId(SCHEDULE_ID, 2L)).thenReturn(Optional.of(attending));
+        when(scheduleParticipantRepository.updateStatusIfCurrent(eq(10L), eq(ScheduleParticipant.Status.ATTENDING),
+                eq(ScheduleParticipant.Status.NOT_ATTENDING), any())).thenReturn(1);
+        when(scheduleParticipantRepository.findFirstByScheduleIdAndStatusOrderByUpdatedAtAscIdAsc(
+                SCHEDULE_ID, ScheduleParticipant.Status.WAITLISTED)).thenReturn(Optional.of(waitlisted));
+        when(scheduleRepository.claimSeat(SCHEDULE_ID)).thenReturn(1);
+        when(scheduleParticipantRepository.updateStatusIfCurrent(eq(20L), eq(ScheduleParticipant.Status.WAITLISTED),
+                eq(ScheduleParticipant.Status.ATTENDING), any())).thenReturn(1);
+        when(scheduleRepository.findAttendingCountById(SCHEDULE_ID)).thenReturn(MAX_ATTENDEES);
+
+        // when
+        Map<String, Object> response = scheduleService.participateSchedule(
+                SCHEDULE_ID, 2L, ScheduleParticipant.Status.NOT_ATTENDING);
+
+        // then
+        assertThat(response.get("status")).isEqualTo(ScheduleParticipant.Status.NOT_ATTENDING);
+        verify(scheduleRepository).releaseSeat(SCHEDULE_ID);
+        verify(scheduleParticipantRepository).updateStatusIfCurrent(eq(20L), eq(ScheduleParticipant.Status.WAITLISTED),
+                eq(ScheduleParticipant.Status.ATTENDING), any());
+    }
+
+    @Test
+    @DisplayName("상태 변경 경합 - 조건부 UPDATE 가 0 건이면 확보한 자리를 반납하고 예외")
+    void participateSchedule_StatusChangedConcurrently_ReleasesClaimedSeat() {
+        // given
+        User user = User.builder().id(2L).name("참석자").build();
+        ScheduleParticipant notAttending = ScheduleParticipant.builder()
+                .id(10L).schedule(schedule).user(user).status(ScheduleParticipant.Status.NOT_ATTENDING).build();
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(scheduleParticipantRepository.findByScheduleIdAndUserId(SCHEDULE_ID, 2L)).thenReturn(Optional.of(notAttending));
+        when(scheduleRepository.claimSeat(SCHEDULE_ID)).thenReturn(1);
+        when(scheduleParticipantRepository.updateStatusIfCurrent(eq(10L), eq(ScheduleParticipant.Status.NOT_ATTENDING),
+                eq(ScheduleParticipant.Status.ATTENDING), any())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.participateSchedule(
+                SCHEDULE_ID, 2L, ScheduleParticipant.Status.ATTENDING))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("동시에 변경");
+        verify(scheduleRepository).releaseSeat(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("중복 참석 요청 - INSERT IGNORE 가 0 건이면 확보한 자리를 반납하고 예외")
+    void participateSchedule_DuplicateInsert_ReleasesClaimedSeat() {
+        // given
+        User user = User.builder().id(2L).name("참석자").build();
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(scheduleParticipantRepository.findByScheduleIdAndUserId(SCHEDULE_ID, 2L)).thenReturn(Optional.empty());
+        when(scheduleRepository.claimSeat(SCHEDULE_ID)).thenReturn(1);
+        when(scheduleParticipantRepository.insertIfAbsent(SCHEDULE_ID, 2L, "ATTENDING")).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.participateSchedule(
+                SCHEDULE_ID, 2L, ScheduleParticipant.Status.ATTENDING))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 처리 중");
+        verify(scheduleRepository).releaseSeat(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("중복 대기 요청 - 확보한 자리가 없으면 반납하지 않음")
+    void participateSchedule_DuplicateWaitlistInsert_DoesNotReleaseSeat() {
+        // given
+        User user = User.builder().id(2L).name("참석자").build();
+
+        when(scheduleRepository.findById(SCHEDULE_ID)).thenReturn(Optional.of(schedule));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(scheduleParticipantRepository.findByScheduleIdAndUserId(SCHEDULE_ID, 2L)).thenReturn(Optional.empty());
+        when(scheduleRepository.claimSeat(SCHEDULE_ID)).thenReturn(0);
+        when(scheduleParticipantRepository.insertIfAbsent(SCHEDULE_ID, 2L, "WAITLISTED")).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.participateSchedule(
+                SCHEDULE_ID, 2L, ScheduleParticipant.Status.ATTENDING))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(scheduleRepository, never()).releaseSeat(anyLong());
+    }
+
+    @Test
+    @DisplayName("대기 상태 직접 선택 - 예외")
+    void participateSchedule_WaitlistedRequested_Throws() {
+        assertThatThrownBy(() -> scheduleService.participateSchedule(
+                SCHEDULE_ID, 2L, ScheduleParticipant.Status.WAITLISTED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,182 @@
+package com.moimlog.moimlog_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    private static final int MAX = 100;
+
+    @Test
+    @DisplayName("주간 반복 - 지정한 요일마다 발생")
+    void weeklyByDay() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;BYDAY=TU,TH");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 2, 19, 0);
+
+        // when
+        List<LocalDateTime> result = rule.occurrencesBetween(start,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 14, 23, 59), MAX);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2024, 1, 2, 19, 0),
+                LocalDateTime.of(2024, 1, 4, 19, 0),
+                LocalDateTime.of(2024, 1, 9, 19, 0),
+                LocalDateTime.of(2024, 1, 11, 19, 0));
+    }
+
+    @Test
+    @DisplayName("월간 반복 - 순번 요일 (둘째 화요일, 마지막 금요일)")
+    void monthlyByOrdinalDay() {
+        // given
+        RecurrenceRule secondTuesday = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2TU");
+        RecurrenceRule lastFriday = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR");
+
+        // when
+        List<LocalDateTime> tuesdays = secondTuesday.occurrencesBetween(LocalDateTime.of(2024, 1, 9, 10, 0),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 4, 30, 23, 59), MAX);
+        List<LocalDateTime> fridays = lastFriday.occurrencesBetween(LocalDateTime.of(2024, 1, 26, 20, 0),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 3, 31, 23, 59), MAX);
+
+        // then
+        assertThat(tuesdays).containsExactly(
+                LocalDateTime.of(2024, 1, 9, 10, 0),
+                LocalDateTime.of(2024, 2, 13, 10, 0),
+                LocalDateTime.of(2024, 3, 12, 10, 0),
+                LocalDateTime.of(2024, 4, 9, 10, 0));
+        assertThat(fridays).containsExactly(
+                LocalDateTime.of(2024, 1, 26, 20, 0),
+                LocalDateTime.of(2024, 2, 23, 20, 0),
+                LocalDateTime.of(2024, 3, 29, 20, 0));
+    }
+
+    @Test
+    @DisplayName("월간 반복 - 해당 일자가 없는 달은 건너뜀")
+    void monthlySkipsShortMonths() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+
+        // when
+        List<LocalDateTime> result = rule.occurrencesBetween(LocalDateTime.of(2024, 1, 31, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 5, 31, 23, 59), MAX);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2024, 1, 31, 9, 0),
+                LocalDateTime.of(2024, 3, 31, 9, 0),
+                LocalDateTime.of(2024, 5, 31, 9, 0));
+    }
+
+    @Test
+    @DisplayName("COUNT/UNTIL 이후에는 발생하지 않음")
+    void countAndUntilLimitOccurrences() {
+        // given
+        RecurrenceRule count = RecurrenceRule.parse("FREQ=DAILY;COUNT=3");
+        RecurrenceRule until = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20240110");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        // when
+        List<LocalDateTime> countAll = count.occurrencesBetween(start,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59), MAX);
+        List<LocalDateTime> countLater = count.occurrencesBetween(start,
+                LocalDateTime.of(2024, 1, 3, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59), MAX);
+        List<LocalDateTime> untilAll = until.occurrencesBetween(start,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59), MAX);
+
+        // then
+        assertThat(countAll).hasSize(3).last().isEqualTo(LocalDateTime.of(2024, 1, 3, 9, 0));
+        assertThat(countLater).containsExactly(LocalDateTime.of(2024, 1, 3, 9, 0));
+        assertThat(untilAll).containsExactly(
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 8, 9, 0));
+    }
+
+    @Test
+    @DisplayName("UTC 로 지정한 UNTIL 은 서버 시간대 시각으로 변환해 비교")
+    void utcUntilConvertedToSystemZone() {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        try {
+            // given (2024-01-10 10:00 UTC = 2024-01-10 19:00 KST)
+            RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20240110T100000Z");
+            LocalDateTime start = LocalDateTime.of(2024, 1, 8, 19, 0);
+
+            // when
+            List<LocalDateTime> result = rule.occurrencesBetween(start,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 31, 23, 59), MAX);
+
+            // then
+            assertThat(result).containsExactly(
+                    LocalDateTime.of(2024, 1, 8, 19, 0),
+                    LocalDateTime.of(2024, 1, 9, 19, 0),
+                    LocalDateTime.of(2024, 1, 10, 19, 0));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("반복 종료 시각 - COUNT 는 마지막 회차, UNTIL 은 UNTIL 시각, 종료 조건이 없으면 null")
+    void seriesEnd() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        // when & then
+        assertThat(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=4").seriesEnd(start))
+                .isEqualTo(LocalDateTime.of(2024, 1, 8, 9, 0));
+        assertThat(RecurrenceRule.parse("FREQ=DAILY;UNTIL=20240110T120000").seriesEnd(start))
+                .isEqualTo(LocalDateTime.of(2024, 1, 10, 12, 0));
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY").seriesEnd(start)).isNull();
+    }
+
+    @Test
+    @DisplayName("먼 구간 조회 - 첫 시작일과 간격 기준으로 회차 계산")
+    void farWindowKeepsIntervalAlignment() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2");
+
+        // when
+        List<LocalDateTime> result = rule.occurrencesBetween(LocalDateTime.of(2020, 1, 1, 7, 0),
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 5, 23, 59), MAX);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2024, 1, 2, 7, 0),
+                LocalDateTime.of(2024, 1, 4, 7, 0));
+    }
+
+    @Test
+    @DisplayName("회차 일시 확인")
+    void isOccurrence() {
+        // given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        // then
+        assertThat(rule.isOccurrence(start, LocalDateTime.of(2024, 1, 15, 10, 0))).isTrue();
+        assertThat(rule.isOccurrence(start, LocalDateTime.of(2024, 1, 16, 10, 0))).isFalse();
+        assertThat(rule.isOccurrence(start, LocalDateTime.of(2024, 1, 15, 11, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("지원하지 않거나 잘못된 규칙은 예외")
+    void parse_InvalidRule() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=HOURLY"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지원하지 않는 반복 주기입니다: HOURLY");
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYSETPOS=1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("매주 화요일"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
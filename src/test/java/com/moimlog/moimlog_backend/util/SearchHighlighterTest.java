@@ -0,0 +1,88 @@
+package com.moimlog.moimlog_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlighterTest {
+
+    @Test
+    @DisplayName("하이라이트 - 일치 구간 밖의 HTML 특수문자는 이스케이프")
+    void highlight_EscapesHtml() {
+        // when
+        String result = SearchHighlighter.highlight("<b>Tom & \"Jerry\"</b>'s", "tom");
+
+        // then
+        assertThat(result).isEqualTo("&lt;b&gt;<em>Tom</em> &amp; &quot;Jerry&quot;&lt;/b&gt;&#39;s");
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 겹치는 일치 구간은 하나의 <em> 으로 병합")
+    void highlight_MergesOverlappingMatches() {
+        // when
+        String result = SearchHighlighter.highlight("독서모임", "독서 서모");
+
+        // then
+        assertThat(result).isEqualTo("<em>독서모</em>임");
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 대소문자를 무시하고 원문 표기를 유지")
+    void highlight_IgnoresCaseAndKeepsOriginalText() {
+        // when
+        String result = SearchHighlighter.highlight("Java java JAVA", "JAVA");
+
+        // then
+        assertThat(result).isEqualTo("<em>Java</em> <em>java</em> <em>JAVA</em>");
+    }
+
+    @Test
+    @DisplayName("스니펫 - 첫 일치 구간이 앞쪽 1/4 지점에 오도록 자르고 양쪽에 말줄임표")
+    void snippet_CentersFirstMatch() {
+        // given
+        String text = "가".repeat(100) + "검색" + "나".repeat(98);
+
+        // when
+        String result = SearchHighlighter.snippet(text, "검색", 40);
+
+        // then
+        assertThat(result).isEqualTo("..." + "가".repeat(10) + "<em>검색</em>" + "나".repeat(28) + "...");
+    }
+
+    @Test
+    @DisplayName("스니펫 - 본문 끝에 가까운 일치는 끝에 맞춰 최대 길이를 채움")
+    void snippet_ClampsWindowToTextEnd() {
+        // given
+        String text = "가".repeat(100) + "검색";
+
+        // when
+        String result = SearchHighlighter.snippet(text, "검색", 40);
+
+        // then
+        assertThat(result).isEqualTo("..." + "가".repeat(38) + "<em>검색</em>");
+    }
+
+    @Test
+    @DisplayName("스니펫 - 본문 앞의 일치는 처음부터 자르고 앞쪽 말줄임표 없음")
+    void snippet_ClampsWindowToTextStart() {
+        // given
+        String text = "검색" + "나".repeat(98);
+
+        // when
+        String result = SearchHighlighter.snippet(text, "검색", 40);
+
+        // then
+        assertThat(result).isEqualTo("<em>검색</em>" + "나".repeat(38) + "...");
+    }
+
+    @Test
+    @DisplayName("스니펫 - 일치가 없고 짧은 본문은 이스케이프만 적용")
+    void snippet_NoMatchShortText() {
+        // when
+        String result = SearchHighlighter.snippet("짧은 글 <p>", "없음", 40);
+
+        // then
+        assertThat(result).isEqualTo("짧은 글 &lt;p&gt;");
+    }
+}